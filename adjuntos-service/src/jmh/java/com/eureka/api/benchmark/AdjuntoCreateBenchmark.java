@@ -0,0 +1,64 @@
+package com.eureka.api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eureka.api.dto.AdjuntoCreateDTO;
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.mapper.AdjuntoMapper;
+import com.eureka.api.service.AdjuntoService;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Conversiones de {@code AdjuntoService.createAdjuntos} (DTOs de alta a entidades y entidades guardadas a DTOs)
+ * sin base de datos: el repositorio devuelve las mismas entidades.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AdjuntoCreateBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdjuntoCreateBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int adjuntos;
+
+    private AdjuntoService adjuntoService;
+    private List<AdjuntoCreateDTO> altas;
+
+    @Setup
+    public void setUp() {
+        adjuntoService = new AdjuntoService(AdjuntoRepositoryStub.of(List.of()), new AdjuntoMapper(), ObservationRegistry.NOOP);
+        altas = IntStream.rangeClosed(1, adjuntos)
+            .mapToObj(i -> {
+                AdjuntoCreateDTO alta = new AdjuntoCreateDTO();
+                alta.setCandidatoId(i);
+                alta.setExtension("pdf");
+                alta.setNombreArchivo("documento_" + i + ".pdf");
+                return alta;
+            })
+            .toList();
+    }
+
+    @Benchmark
+    public List<AdjuntoDTO> createAdjuntos() {
+        return adjuntoService.createAdjuntos(altas);
+    }
+}
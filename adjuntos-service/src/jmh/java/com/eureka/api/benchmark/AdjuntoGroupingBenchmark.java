@@ -0,0 +1,64 @@
+package com.eureka.api.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.mapper.AdjuntoMapper;
+import com.eureka.api.model.Adjunto;
+import com.eureka.api.service.AdjuntoService;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Conversión y agrupación por candidato de {@code AdjuntoService.getAdjuntosByCandidatoIds}, la respuesta a la
+ * llamada por lotes de {@code findAllWithAdjuntos} en candidatos-service. Para 1.000 candidatos (el máximo por
+ * petición), con los adjuntos intercalados entre candidatos como los devuelve la consulta; sin base de datos.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AdjuntoGroupingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class AdjuntoGroupingBenchmark {
+    private static final int CANDIDATOS = 1000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int adjuntos;
+
+    private AdjuntoService adjuntoService;
+    private Set<Integer> candidatoIds;
+
+    @Setup
+    public void setUp() {
+        List<Adjunto> lista = IntStream.rangeClosed(1, adjuntos)
+            .mapToObj(id -> AdjuntoRepositoryStub.adjunto(id, id % CANDIDATOS + 1))
+            .toList();
+        adjuntoService = new AdjuntoService(AdjuntoRepositoryStub.of(lista), new AdjuntoMapper(), ObservationRegistry.NOOP);
+        candidatoIds = IntStream.rangeClosed(1, CANDIDATOS).boxed().collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public Map<Integer, List<AdjuntoDTO>> agrupar() {
+        return adjuntoService.getAdjuntosByCandidatoIds(candidatoIds);
+    }
+}
@@ -0,0 +1,57 @@
+package com.eureka.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.mapper.AdjuntoMapper;
+import com.eureka.api.model.Adjunto;
+
+/**
+ * Compara el mapeo por reflexión de ModelMapper con AdjuntoMapper.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AdjuntoMappingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdjuntoMappingBenchmark {
+    private ModelMapper modelMapper;
+    private AdjuntoMapper adjuntoMapper;
+    private Adjunto adjunto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        adjuntoMapper = new AdjuntoMapper();
+        adjunto = new Adjunto();
+        adjunto.setId(1);
+        adjunto.setCandidatoId(1);
+        adjunto.setExtension("pdf");
+        adjunto.setNombreArchivo("cv_juan_perez.pdf");
+    }
+
+    @Benchmark
+    public AdjuntoDTO modelMapperToDTO() {
+        return modelMapper.map(adjunto, AdjuntoDTO.class);
+    }
+
+    @Benchmark
+    public AdjuntoDTO mapperToDTO() {
+        return adjuntoMapper.toDTO(adjunto);
+    }
+}
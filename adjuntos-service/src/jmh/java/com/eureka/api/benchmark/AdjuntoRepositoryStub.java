@@ -0,0 +1,36 @@
+package com.eureka.api.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import com.eureka.api.model.Adjunto;
+import com.eureka.api.repository.AdjuntoRepository;
+
+/**
+ * AdjuntoRepository en memoria para medir AdjuntoService sin base de datos: las consultas por candidatos devuelven
+ * siempre la misma lista y {@code saveAll} devuelve las entidades recibidas.
+ */
+final class AdjuntoRepositoryStub {
+    private AdjuntoRepositoryStub() {
+    }
+
+    static AdjuntoRepository of(List<Adjunto> adjuntos) {
+        return (AdjuntoRepository) Proxy.newProxyInstance(
+            AdjuntoRepository.class.getClassLoader(),
+            new Class<?>[] {AdjuntoRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findByCandidatoIdIn" -> adjuntos;
+                case "saveAll" -> args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    static Adjunto adjunto(int id, int candidatoId) {
+        Adjunto adjunto = new Adjunto();
+        adjunto.setId(id);
+        adjunto.setCandidatoId(candidatoId);
+        adjunto.setExtension("pdf");
+        adjunto.setNombreArchivo("documento_" + id + ".pdf");
+        return adjunto;
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 
 @EnableDiscoveryClient
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.eureka.api", "com.eureka.common"})
 public class ApiServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,54 @@
+package com.eureka.api.configuration;
+
+import java.time.Duration;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.eureka.common.cache.HibernateCacheManagerConfig;
+import com.eureka.common.cache.HibernateCacheRegion;
+
+/**
+ * Regiones de la caché de segundo nivel de Hibernate ({@link HibernateCacheManagerConfig}): adjuntos por ID y
+ * resultados de la consulta de adjuntos de un candidato.
+ */
+@Configuration(proxyBeanMethods = false)
+public class HibernateCacheConfig {
+    public static final String ADJUNTO_REGION = "adjunto";
+    public static final String ADJUNTOS_POR_CANDIDATO_REGION = "adjuntos-por-candidato";
+
+    @Bean
+    public HibernateCacheRegion adjuntoRegion(
+            @Value("${adjuntos.cache.adjunto.max-size}") long maxSize,
+            @Value("${adjuntos.cache.adjunto.ttl}") Duration ttl,
+            @Value("${adjuntos.cache.adjunto.inactividad:0}") Duration inactividad) {
+        return new HibernateCacheRegion(ADJUNTO_REGION, maxSize, ttl, inactividad);
+    }
+
+    @Bean
+    public HibernateCacheRegion adjuntosPorCandidatoRegion(
+            @Value("${adjuntos.cache.por-candidato.max-size}") long maxSize,
+            @Value("${adjuntos.cache.por-candidato.ttl}") Duration ttl,
+            @Value("${adjuntos.cache.por-candidato.inactividad:0}") Duration inactividad) {
+        return new HibernateCacheRegion(ADJUNTOS_POR_CANDIDATO_REGION, maxSize, ttl, inactividad);
+    }
+
+    /**
+     * Región por defecto de los resultados de consultas, con la configuración de la de adjuntos por candidato.
+     */
+    @Bean
+    public HibernateCacheRegion consultasRegion(HibernateCacheRegion adjuntosPorCandidatoRegion) {
+        return adjuntosPorCandidatoRegion.conNombre(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+    }
+
+    /**
+     * Última modificación de cada tabla, con la que se descartan los resultados de consultas anteriores a ella:
+     * no puede desalojarse ni expirar antes que esos resultados.
+     */
+    @Bean
+    public HibernateCacheRegion marcasDeTiempoRegion() {
+        return HibernateCacheRegion.sinLimite(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+    }
+}
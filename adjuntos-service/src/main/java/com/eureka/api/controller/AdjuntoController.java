@@ -1,13 +1,18 @@
 package com.eureka.api.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,6 +21,7 @@ import com.eureka.api.exception.NotFoundException;
 import com.eureka.api.service.AdjuntoService;
 
 import com.eureka.api.dto.AdjuntoCreateDTO;
+import com.eureka.common.http.ETags;
 
 
 import jakarta.validation.Valid;
@@ -39,13 +45,36 @@ public class AdjuntoController {
         return ResponseEntity.ok(adjuntosDTO);
     }
 
+    /**
+     * Con ETag en la respuesta, Spring contesta 304 sin serializar el cuerpo si coincide con If-None-Match.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<AdjuntoDTO> findById(@PathVariable Integer id) {
+        return adjuntoService.findById(id)
+            .map(adjunto -> ResponseEntity.ok().eTag(ETags.version(adjunto.getVersion())).body(adjunto))
+            .orElseThrow(() -> new NotFoundException("No existe un adjunto con el ID " + id));
+    }
+
+    /**
+     * El ETag se calcula con el ID y la versión de cada adjunto de la lista.
+     */
     @GetMapping("/candidato/{candidatoId}")
     public ResponseEntity<List<AdjuntoDTO>> getAdjuntosByCandidatoId(@PathVariable Integer candidatoId) {
         List<AdjuntoDTO> adjuntosDTO = adjuntoService.getAdjuntosByCandidatoId(candidatoId);
         if (adjuntosDTO.isEmpty()) {
             throw new NotFoundException("No se encontraron adjuntos para el candidato con ID " + candidatoId);
         }
-        return ResponseEntity.ok(adjuntosDTO);
+        String eTag = ETags.hash(adjuntosDTO.stream()
+            .flatMapToLong(adjunto -> LongStream.of(adjunto.getId(), adjunto.getVersion())));
+        return ResponseEntity.ok().eTag(eTag).body(adjuntosDTO);
+    }
+
+    /**
+     * Consulta por lotes: recibe los IDs de candidato y devuelve sus adjuntos agrupados por ID.
+     */
+    @PostMapping("/candidatos")
+    public ResponseEntity<Map<Integer, List<AdjuntoDTO>>> getAdjuntosByCandidatoIds(@RequestBody Set<Integer> candidatoIds) {
+        return ResponseEntity.ok(adjuntoService.getAdjuntosByCandidatoIds(candidatoIds));
     }
 
     @PostMapping
@@ -55,8 +84,20 @@ public class AdjuntoController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteById(@PathVariable Integer id) {
-        adjuntoService.deleteById(id);
+    public ResponseEntity<Void> deleteById(
+            @PathVariable Integer id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        adjuntoService.deleteById(id, ifMatch);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Elimina todos los adjuntos de un candidato. Responde 204 aunque no tuviera ninguno, para que
+     * candidatos-service pueda reintentar la eliminación sin tratarla como error.
+     */
+    @DeleteMapping("/candidato/{candidatoId}")
+    public ResponseEntity<Void> deleteByCandidatoId(@PathVariable Integer candidatoId) {
+        adjuntoService.deleteByCandidatoId(candidatoId);
         return ResponseEntity.noContent().build();
     }
 }
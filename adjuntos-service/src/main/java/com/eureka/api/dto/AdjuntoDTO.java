@@ -1,5 +1,7 @@
 package com.eureka.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.Data;
 
 @Data   
@@ -8,4 +10,8 @@ public class AdjuntoDTO {
     private Integer candidatoId;
     private String extension;
     private String nombreArchivo;
+
+    /** Versión de la fila, solo para calcular el ETag; no forma parte del JSON. */
+    @JsonIgnore
+    private Long version;
 }
@@ -2,6 +2,7 @@ package com.eureka.api.exception;
 
 import java.time.LocalDate;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,4 +24,40 @@ public class GlobalExceptionHandler {
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException exception, HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            exception.getMessage(),
+            request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException exception, HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.PRECONDITION_FAILED.value(),
+            exception.getMessage(),
+            request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Otra petición modificó o eliminó la fila entre la lectura y la escritura (columna {@code version}).
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception, HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.CONFLICT.value(),
+            "El recurso fue modificado por otra petición",
+            request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
 }
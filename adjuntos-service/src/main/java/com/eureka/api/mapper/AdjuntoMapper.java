@@ -0,0 +1,33 @@
+package com.eureka.api.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.eureka.api.dto.AdjuntoCreateDTO;
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.model.Adjunto;
+
+/**
+ * Conversión entre la entidad Adjunto y sus DTOs.
+ * Copia los campos de forma explícita, sin reflexión ni búsquedas de mapas de tipos en tiempo de ejecución.
+ */
+@Component
+public class AdjuntoMapper {
+
+    public AdjuntoDTO toDTO(Adjunto adjunto) {
+        AdjuntoDTO dto = new AdjuntoDTO();
+        dto.setId(adjunto.getId());
+        dto.setCandidatoId(adjunto.getCandidatoId());
+        dto.setExtension(adjunto.getExtension());
+        dto.setNombreArchivo(adjunto.getNombreArchivo());
+        dto.setVersion(adjunto.getVersion());
+        return dto;
+    }
+
+    public Adjunto toEntity(AdjuntoCreateDTO dto) {
+        Adjunto adjunto = new Adjunto();
+        adjunto.setCandidatoId(dto.getCandidatoId());
+        adjunto.setExtension(dto.getExtension());
+        adjunto.setNombreArchivo(dto.getNombreArchivo());
+        return adjunto;
+    }
+}
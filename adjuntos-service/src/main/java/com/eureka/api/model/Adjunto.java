@@ -1,17 +1,27 @@
 package com.eureka.api.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.eureka.api.configuration.HibernateCacheConfig;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 
 @Entity
-@Table(name = "adjuntos")
+@Table(name = "adjuntos", indexes = @Index(name = "idx_adjuntos_candidato_id", columnList = "candidatoId"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.ADJUNTO_REGION)
 @Getter
 @Setter
 public class Adjunto {
@@ -24,4 +34,8 @@ public class Adjunto {
     private String extension;
     @Column(length = 255, nullable = false)
     private String nombreArchivo;
+    /** Se incrementa en cada UPDATE; sirve de ETag y de bloqueo optimista. */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -1,12 +1,40 @@
 package com.eureka.api.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.eureka.api.configuration.HibernateCacheConfig;
 import com.eureka.api.model.Adjunto;
 
+import jakarta.persistence.QueryHint;
+
 
 public interface AdjuntoRepository extends JpaRepository<Adjunto, Integer> {
-    List<Adjunto> findByCandidatoId(Integer candidatoId);
+    /**
+     * Resultado en la caché de consultas: los IDs por candidato, y cada adjunto en la región de la entidad.
+     * Cualquier escritura en la tabla adjuntos invalida todos los resultados guardados.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.ADJUNTOS_POR_CANDIDATO_REGION)
+    })
+    List<Adjunto> findByCandidatoIdOrderByIdAsc(Integer candidatoId);
+
+    List<Adjunto> findByCandidatoIdIn(Collection<Integer> candidatoIds);
+
+    /**
+     * Un único DELETE sobre el índice de candidato, sin cargar las entidades.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from Adjunto a where a.candidatoId = :candidatoId")
+    int deleteByCandidatoId(@Param("candidatoId") Integer candidatoId);
 }
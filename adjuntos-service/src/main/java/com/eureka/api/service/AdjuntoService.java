@@ -1,62 +1,121 @@
 package com.eureka.api.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.eureka.api.dto.AdjuntoCreateDTO;
 import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.exception.BadRequestException;
 import com.eureka.api.exception.NotFoundException;
+import com.eureka.api.exception.PreconditionFailedException;
+import com.eureka.api.mapper.AdjuntoMapper;
 import com.eureka.api.model.Adjunto;
 import com.eureka.api.repository.AdjuntoRepository;
+import com.eureka.common.http.ETags;
+import com.eureka.common.replicas.LecturaTrasEscritura;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 
 @Service
 public class AdjuntoService {
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final AdjuntoRepository adjuntoRepository;
-    private final ModelMapper modelMapper;
+    private final AdjuntoMapper adjuntoMapper;
+    private final ObservationRegistry observationRegistry;
 
-    public AdjuntoService(AdjuntoRepository adjuntoRepository, ModelMapper modelMapper) {
+    public AdjuntoService(AdjuntoRepository adjuntoRepository, AdjuntoMapper adjuntoMapper,
+            ObservationRegistry observationRegistry) {
         this.adjuntoRepository = adjuntoRepository;
-        this.modelMapper = modelMapper;
+        this.adjuntoMapper = adjuntoMapper;
+        this.observationRegistry = observationRegistry;
     }
 
+    @Transactional(readOnly = true)
     public List<AdjuntoDTO> findAll() {
         return adjuntoRepository.findAll().stream()
-            .map(adjunto -> modelMapper.map(adjunto, AdjuntoDTO.class))
+            .map(adjuntoMapper::toDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public Optional<AdjuntoDTO> findById(Integer id) {
+        return adjuntoRepository.findById(id)
+            .map(adjuntoMapper::toDTO);
+    }
+
+    /**
+     * Se lee del primario, en la transacción de solo lectura del repositorio, porque el resultado se guarda en la
+     * caché de consultas: el de una réplica retrasada se daría por válido aunque faltaran los últimos cambios.
+     */
     public List<AdjuntoDTO> getAdjuntosByCandidatoId(Integer candidatoId) {
-        List<Adjunto> adjuntos = adjuntoRepository.findByCandidatoId(candidatoId);
+        List<Adjunto> adjuntos = LecturaTrasEscritura.enPrimario(
+            () -> adjuntoRepository.findByCandidatoIdOrderByIdAsc(candidatoId));
         
         return adjuntos.stream()
-            .map(adjunto -> modelMapper.map(adjunto, AdjuntoDTO.class))
+            .map(adjuntoMapper::toDTO)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Obtiene en una sola consulta los adjuntos de varios candidatos, agrupados por ID de candidato.
+     * Los candidatos sin adjuntos no aparecen en el resultado. La conversión y la agrupación son un span
+     * {@code adjuntos.agrupacion}, aparte del de la consulta.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, List<AdjuntoDTO>> getAdjuntosByCandidatoIds(Set<Integer> candidatoIds) {
+        if (candidatoIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Se pueden consultar como máximo " + MAX_BATCH_SIZE + " candidatos por petición");
+        }
+        if (candidatoIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Adjunto> adjuntos = adjuntoRepository.findByCandidatoIdIn(candidatoIds);
+        return Observation.createNotStarted("adjuntos.agrupacion", observationRegistry)
+            .contextualName("agrupar adjuntos por candidato")
+            .highCardinalityKeyValue("adjuntos", String.valueOf(adjuntos.size()))
+            .observe(() -> adjuntos.stream()
+                .map(adjuntoMapper::toDTO)
+                .collect(Collectors.groupingBy(AdjuntoDTO::getCandidatoId)));
+    }
+
     public List<AdjuntoDTO> createAdjuntos(List<AdjuntoCreateDTO> adjuntosDTO) {
         List<Adjunto> adjuntos = adjuntosDTO.stream()
-            .map(dto -> {
-                Adjunto adjunto = new Adjunto();
-                adjunto.setCandidatoId(dto.getCandidatoId());
-                adjunto.setExtension(dto.getExtension());
-                adjunto.setNombreArchivo(dto.getNombreArchivo());
-                return adjunto;
-            })
+            .map(adjuntoMapper::toEntity)
             .collect(Collectors.toList());
         
         List<Adjunto> savedAdjuntos = adjuntoRepository.saveAll(adjuntos);
         
         return savedAdjuntos.stream()
-            .map(adjunto -> modelMapper.map(adjunto, AdjuntoDTO.class))
+            .map(adjuntoMapper::toDTO)
             .collect(Collectors.toList());
     }
 
-    public void deleteById(Integer id) {
+    /**
+     * Elimina el adjunto si la cabecera If-Match (opcional) coincide con su versión actual. La versión se lee en
+     * la misma transacción que el borrado, del primario aunque haya réplicas de lectura.
+     */
+    @Transactional
+    public void deleteById(Integer id, String ifMatch) {
         Adjunto adjunto = adjuntoRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("No existe un adjunto con el ID " + id));
+        if (!ETags.matches(ifMatch, ETags.version(adjunto.getVersion()))) {
+            throw new PreconditionFailedException("El adjunto con ID " + id + " fue modificado");
+        }
         adjuntoRepository.delete(adjunto);
     }
+
+    /**
+     * Elimina todos los adjuntos de un candidato. Es idempotente: si no tiene adjuntos no hace nada.
+     */
+    public int deleteByCandidatoId(Integer candidatoId) {
+        return adjuntoRepository.deleteByCandidatoId(candidatoId);
+    }
 }
@@ -5,16 +5,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import com.eureka.api.config.BaseConfig;
+import com.eureka.api.model.Adjunto;
 
 import io.restassured.http.ContentType;
+import jakarta.persistence.EntityManagerFactory;
 
 @Testcontainers
 public class AdjuntoControllerTest extends BaseConfig {
@@ -23,6 +30,9 @@ public class AdjuntoControllerTest extends BaseConfig {
     @ServiceConnection
     protected static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @DisplayName("GET /api/v1/adjuntos - Obtener todos los adjuntos")
     void testGetAllAdjuntos_Success() {
@@ -129,4 +139,181 @@ public class AdjuntoControllerTest extends BaseConfig {
 
         assertThat(adjuntoRepository.count()).isEqualTo(6);
     }
+
+    @Test
+    @DisplayName("POST /api/v1/adjuntos/candidatos - Adjuntos agrupados para varios candidatos")
+    void testGetAdjuntosByCandidatoIds_Grouped() {
+        // Arrange
+        adjuntoFixture.createMultipleAdjuntosForCandidato(1, 2);
+        adjuntoFixture.createMultipleAdjuntosForCandidato(2, 1);
+        adjuntoFixture.createMultipleAdjuntosForCandidato(3, 4);
+
+        // Act & Assert: el candidato 3 no se pide y el 99 no tiene adjuntos
+        given()
+            .contentType(ContentType.JSON)
+            .body(List.of(1, 2, 99))
+        .when()
+            .post(BASE_PATH + "/candidatos")
+        .then()
+            .statusCode(200)
+            .body("size()", equalTo(2))
+            .body("'1'.size()", equalTo(2))
+            .body("'2'.size()", equalTo(1))
+            .body("'2'[0].candidatoId", equalTo(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/adjuntos/candidato/{id} - If-None-Match vigente retorna 304 y cambia al crear otro adjunto")
+    void testGetAdjuntosByCandidatoId_ConditionalGet() {
+        // Arrange
+        adjuntoFixture.createMultipleAdjuntosForCandidato(1, 2);
+        String eTag = given()
+        .when()
+            .get(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract().header("ETag");
+
+        // Act & Assert
+        given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(304)
+            .header("ETag", equalTo(eTag));
+
+        adjuntoFixture.createAndSaveAdjunto(1, "pdf", "nuevo.pdf");
+
+        given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(200)
+            .body("size()", equalTo(3));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/adjuntos/{id} - If-Match distinto retorna 412 y no elimina")
+    void testDeleteAdjunto_IfMatch() {
+        // Arrange
+        Adjunto adjunto = adjuntoFixture.createAndSaveAdjunto(1, "pdf", "cv.pdf");
+        String eTag = given()
+        .when()
+            .get(BASE_PATH + "/{id}", adjunto.getId())
+        .then()
+            .statusCode(200)
+            .body("nombreArchivo", equalTo("cv.pdf"))
+            .extract().header("ETag");
+
+        // Act & Assert
+        given()
+            .header("If-Match", "\"otra-version\"")
+        .when()
+            .delete(BASE_PATH + "/{id}", adjunto.getId())
+        .then()
+            .statusCode(412);
+        assertThat(adjuntoRepository.existsById(adjunto.getId())).isTrue();
+
+        given()
+            .header("If-Match", eTag)
+        .when()
+            .delete(BASE_PATH + "/{id}", adjunto.getId())
+        .then()
+            .statusCode(204);
+        assertThat(adjuntoRepository.existsById(adjunto.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/adjuntos/candidato/{id} - Elimina solo los adjuntos del candidato y es idempotente")
+    void testDeleteAdjuntosByCandidatoId() {
+        // Arrange
+        adjuntoFixture.createMultipleAdjuntosForCandidato(1, 3);
+        adjuntoFixture.createMultipleAdjuntosForCandidato(2, 2);
+
+        // Act & Assert
+        given()
+        .when()
+            .delete(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(204);
+        assertThat(adjuntoRepository.findByCandidatoIdOrderByIdAsc(1)).isEmpty();
+        assertThat(adjuntoRepository.findByCandidatoIdOrderByIdAsc(2)).hasSize(2);
+
+        given()
+        .when()
+            .delete(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(204);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/adjuntos/candidato/{id} y /{id} - Las lecturas repetidas se sirven de la caché de segundo nivel")
+    void testGetAdjuntosByCandidatoId_SecondLevelCache() {
+        // Arrange
+        adjuntoFixture.createMultipleAdjuntosForCandidato(1, 2);
+        Adjunto adjunto = adjuntoFixture.createAndSaveAdjunto(1, "pdf", "cv.pdf");
+        given()
+        .when()
+            .get(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(200);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act & Assert
+        given()
+        .when()
+            .get(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(200)
+            .body("size()", equalTo(3));
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", adjunto.getId())
+        .then()
+            .statusCode(200)
+            .body("nombreArchivo", equalTo("cv.pdf"));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/adjuntos/candidato/{id} - Invalida los adjuntos y las consultas en caché")
+    void testDeleteAdjuntosByCandidatoId_InvalidatesCache() {
+        // Arrange
+        Adjunto adjunto = adjuntoFixture.createAndSaveAdjunto(1, "pdf", "cv.pdf");
+        given()
+        .when()
+            .get(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(200);
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", adjunto.getId())
+        .then()
+            .statusCode(200);
+
+        // Act
+        given()
+        .when()
+            .delete(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(204);
+
+        // Assert
+        given()
+        .when()
+            .get(BASE_PATH + "/candidato/{id}", 1)
+        .then()
+            .statusCode(404);
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", adjunto.getId())
+        .then()
+            .statusCode(404);
+    }
 }
@@ -0,0 +1,191 @@
+package com.eureka.api.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.eureka.api.config.BaseConfig;
+import com.eureka.common.replicas.LecturaTrasEscrituraFilter;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Réplica de lectura simulada con un segundo MySQL sin replicación: lo que se escribe en el primario no llega
+ * nunca a la réplica, y lo que solo está en la réplica muestra qué lecturas van a ella.
+ */
+@Testcontainers
+public class ReplicaRoutingIntegrationTest extends BaseConfig {
+
+    @Container
+    @ServiceConnection
+    protected static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    protected static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replicas.urls", replica::getJdbcUrl);
+        registry.add("datasource.replicas.username", replica::getUsername);
+        registry.add("datasource.replicas.password", replica::getPassword);
+        registry.add("datasource.replicas.lectura-tras-escritura", () -> "3s");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUpReplica() {
+        // La réplica tiene la misma tabla que el primario, que la crea Hibernate al arrancar
+        replicaJdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()));
+        String ddl = (String) jdbcTemplate.queryForMap("show create table adjuntos").get("Create Table");
+        replicaJdbcTemplate.execute(ddl.replaceFirst("CREATE TABLE", "CREATE TABLE IF NOT EXISTS"));
+        replicaJdbcTemplate.update("delete from adjuntos");
+        replicaJdbcTemplate.update(
+            "insert into adjuntos (candidato_id, extension, nombre_archivo, version) values (1, 'pdf', 'replica', 0)");
+    }
+
+    /**
+     * Test: Las escrituras van al primario. Las lecturas del cliente que escribió también, con la cookie de la
+     * respuesta, hasta que pasa el periodo de lectura tras escritura; las de los demás clientes van a la réplica
+     */
+    @Test
+    @DisplayName("GET /api/v1/adjuntos - Lee del primario tras una escritura del mismo cliente y de la réplica después")
+    void testReadYourWritesThenReplica() {
+        String escritura = given()
+            .contentType(ContentType.JSON)
+            .body(List.of(Map.of("candidatoId", 1, "extension", "pdf", "nombreArchivo", "primario")))
+        .when()
+            .post(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .extract()
+            .cookie(LecturaTrasEscrituraFilter.COOKIE);
+        assertThat(escritura).isNotNull();
+
+        // Sin transacción, JdbcTemplate usa el primario
+        assertThat(jdbcTemplate.queryForList("select nombre_archivo from adjuntos", String.class))
+            .containsExactly("primario");
+        assertThat(replicaJdbcTemplate.queryForList("select nombre_archivo from adjuntos", String.class))
+            .containsExactly("replica");
+
+        given()
+            .cookie(LecturaTrasEscrituraFilter.COOKIE, escritura)
+        .when()
+            .get(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .body("nombreArchivo", hasItem("primario"))
+            .body("nombreArchivo", not(hasItem("replica")));
+
+        given()
+        .when()
+            .get(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .body("nombreArchivo", hasItem("replica"))
+            .body("nombreArchivo", not(hasItem("primario")));
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+            given()
+                .cookie(LecturaTrasEscrituraFilter.COOKIE, escritura)
+            .when()
+                .get(BASE_PATH)
+            .then()
+                .statusCode(200)
+                .body("nombreArchivo", hasItem("replica"))
+                .body("nombreArchivo", not(hasItem("primario"))));
+    }
+
+    /**
+     * Test: Lo que se lee de la réplica no llena las cachés. Tras borrar un adjunto que la réplica aún tiene,
+     * un cliente sin la cookie recibe 404 al consultar los adjuntos del candidato
+     */
+    @Test
+    @DisplayName("GET /api/v1/adjuntos/candidato/{id} - Las cachés no guardan un adjunto borrado que sigue en la réplica")
+    void testDeletedAdjuntoIsNotCachedFromReplica() {
+        Integer id = given()
+            .contentType(ContentType.JSON)
+            .body(List.of(Map.of("candidatoId", 2, "extension", "pdf", "nombreArchivo", "borrado")))
+        .when()
+            .post(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .extract()
+            .path("[0].id");
+        replicaJdbcTemplate.update("delete from adjuntos where id = ?", id);
+        replicaJdbcTemplate.update(
+            "insert into adjuntos (id, candidato_id, extension, nombre_archivo, version) values (?, 2, 'pdf', 'borrado', 0)",
+            id);
+
+        given()
+        .when()
+            .get(BASE_PATH + "/candidato/2")
+        .then()
+            .statusCode(200);
+
+        given()
+        .when()
+            .delete(BASE_PATH + "/" + id)
+        .then()
+            .statusCode(204);
+
+        given()
+        .when()
+            .get(BASE_PATH + "/" + id)
+        .then()
+            .statusCode(200);
+
+        given()
+        .when()
+            .get(BASE_PATH + "/candidato/2")
+        .then()
+            .statusCode(404);
+    }
+
+    /**
+     * Test: Cada pool publica sus métricas con su nombre
+     */
+    @Test
+    @DisplayName("GET /actuator/metrics/hikaricp.connections - Métricas del pool del primario y de la réplica")
+    void testPoolMetricsPerTarget() {
+        // El pool de la réplica se inicia con la primera lectura que va a ella
+        given()
+        .when()
+            .get(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .body("nombreArchivo", hasItem("replica"));
+
+        for (String pool : List.of("primario", "replica-1")) {
+            given()
+                .queryParam("tag", "pool:" + pool)
+            .when()
+                .get("/actuator/metrics/hikaricp.connections")
+            .then()
+                .statusCode(200);
+        }
+    }
+}
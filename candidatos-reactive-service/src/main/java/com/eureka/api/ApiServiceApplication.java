@@ -0,0 +1,16 @@
+package com.eureka.api;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+
+
+@EnableDiscoveryClient
+@SpringBootApplication
+public class ApiServiceApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ApiServiceApplication.class, args);
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.eureka.api.clients;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.eureka.api.dto.AdjuntoDTO;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Cliente no bloqueante del servicio de adjuntos. Un 404 de adjunto-service equivale a que no hay adjuntos;
+ * el resto de errores, incluido el plazo de respuesta agotado, se propagan como error del {@link Mono}.
+ */
+@Component
+public class AdjuntoWebClient {
+    private static final ParameterizedTypeReference<List<AdjuntoDTO>> LISTA =
+        new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<Map<Integer, List<AdjuntoDTO>>> POR_CANDIDATO =
+        new ParameterizedTypeReference<>() { };
+
+    private final WebClient webClient;
+
+    public AdjuntoWebClient(WebClient adjuntoServiceWebClient) {
+        this.webClient = adjuntoServiceWebClient;
+    }
+
+    public Mono<List<AdjuntoDTO>> getAdjuntosByCandidatoId(Integer candidatoId) {
+        return webClient.get()
+            .uri("/api/v1/adjuntos/candidato/{candidatoId}", candidatoId)
+            .retrieve()
+            .bodyToMono(LISTA)
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(List.of()));
+    }
+
+    public Mono<Map<Integer, List<AdjuntoDTO>>> getAdjuntosByCandidatoIds(Collection<Integer> candidatoIds) {
+        return webClient.post()
+            .uri("/api/v1/adjuntos/candidatos")
+            .bodyValue(candidatoIds)
+            .retrieve()
+            .bodyToMono(POR_CANDIDATO)
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(Map.of()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.eureka.api.configuration;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * WebClient de adjunto-service sobre Reactor Netty, con un pool de conexiones keep-alive propio.
+     * Si {@code adjunto-service.url} está vacío, la instancia se elige entre las registradas en Eureka.
+     */
+    @Bean
+    public WebClient adjuntoServiceWebClient(
+            WebClient.Builder builder,
+            ObjectProvider<ReactorLoadBalancerExchangeFilterFunction> loadBalancer,
+            @Value("${adjunto-service.url:}") String url,
+            @Value("${candidatos.adjuntos.connect-timeout:500ms}") Duration connectTimeout,
+            @Value("${candidatos.adjuntos.read-timeout:2s}") Duration readTimeout,
+            @Value("${candidatos.adjuntos.max-connections:200}") int maxConnections,
+            @Value("${candidatos.adjuntos.inactividad-maxima:30s}") Duration inactividadMaxima) {
+        ConnectionProvider pool = ConnectionProvider.builder("adjunto-service")
+            .maxConnections(maxConnections)
+            .maxIdleTime(inactividadMaxima)
+            .metrics(true)
+            .build();
+        HttpClient httpClient = HttpClient.create(pool)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .responseTimeout(readTimeout);
+        builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+
+        if (url.isBlank()) {
+            builder.baseUrl("http://adjunto-service").filter(loadBalancer.getObject());
+        } else {
+            builder.baseUrl(url);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.eureka.api.controller;
+
+import java.util.stream.LongStream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.dto.CandidatoConAdjuntosDTO;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.exception.NotFoundException;
+import com.eureka.api.service.CandidatoService;
+import com.eureka.common.http.ETags;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoints de lectura de candidatos con las mismas rutas y respuestas que candidatos-service.
+ * Los listados se escriben a medida que se leen: como array JSON ({@code application/json}) o una línea
+ * por candidato ({@code application/x-ndjson}), y la lectura avanza al ritmo en que el cliente consume.
+ */
+@RestController
+@RequestMapping("/api/v1/candidatos")
+public class CandidatoController {
+    private final CandidatoService candidateService;
+
+    public CandidatoController(CandidatoService candidateService) {
+        this.candidateService = candidateService;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CandidatoDTO> findAll() {
+        return candidateService.findAll()
+            .switchIfEmpty(Flux.error(() -> new NotFoundException("No se encontraron candidatos")));
+    }
+
+    /**
+     * Con ETag en la respuesta, Spring contesta 304 sin serializar el cuerpo si coincide con If-None-Match.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CandidatoDTO>> findById(@PathVariable Integer id) {
+        return candidateService.findById(id)
+            .map(candidato -> ResponseEntity.ok().eTag(ETags.version(candidato.getVersion())).body(candidato))
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("No se encontró un candidato con el ID dado " + id)));
+    }
+
+    @GetMapping(value = "/adjuntos", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CandidatoConAdjuntosDTO> findAllWithAdjuntos() {
+        return candidateService.findAllWithAdjuntos()
+            .switchIfEmpty(Flux.error(() -> new NotFoundException("No se encontraron candidatos")));
+    }
+
+    /**
+     * El ETag combina la versión del candidato con los IDs de sus adjuntos, que no se modifican una vez creados.
+     * Una respuesta con los adjuntos no disponibles no lleva ETag, para que no se reutilice.
+     */
+    @GetMapping("/{id}/adjuntos")
+    public Mono<ResponseEntity<CandidatoConAdjuntosDTO>> findByIdWithAdjuntos(@PathVariable Integer id) {
+        return candidateService.findByIdWithAdjuntos(id)
+            .map(candidato -> candidato.isAdjuntosDisponibles()
+                ? ResponseEntity.ok().eTag(eTag(candidato)).body(candidato)
+                : ResponseEntity.ok(candidato))
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("No se encontró un candidato con el ID dado " + id)));
+    }
+
+    private static String eTag(CandidatoConAdjuntosDTO candidato) {
+        return ETags.hash(LongStream.concat(
+            LongStream.of(candidato.getVersion()),
+            candidato.getAdjuntos().stream().mapToLong(AdjuntoDTO::getId).sorted()));
+    }
+}
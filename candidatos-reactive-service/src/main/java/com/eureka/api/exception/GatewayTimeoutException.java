@@ -0,0 +1,7 @@
+package com.eureka.api.exception;
+
+public class GatewayTimeoutException extends RuntimeException {
+    public GatewayTimeoutException(String message) {
+        super(message);
+    }
+}
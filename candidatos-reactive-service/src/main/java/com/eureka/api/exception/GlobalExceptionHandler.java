@@ -0,0 +1,36 @@
+package com.eureka.api.exception;
+
+import java.time.LocalDate;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFoundException(NotFoundException exception, ServerHttpRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.NOT_FOUND.value(),
+            exception.getMessage(),
+            request.getPath().value()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(GatewayTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleGatewayTimeoutException(GatewayTimeoutException exception, ServerHttpRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.GATEWAY_TIMEOUT.value(),
+            exception.getMessage(),
+            request.getPath().value()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.GATEWAY_TIMEOUT);
+    }
+}
@@ -0,0 +1,59 @@
+package com.eureka.api.mapper;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.dto.CandidatoConAdjuntosDTO;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.model.Candidato;
+
+/**
+ * Conversión de la fila Candidato a los DTOs compartidos con candidatos-service.
+ */
+@Component
+public class CandidatoMapper {
+
+    public CandidatoDTO toDTO(Candidato candidato) {
+        CandidatoDTO dto = new CandidatoDTO();
+        copyToDTO(candidato, dto);
+        return dto;
+    }
+
+    public CandidatoConAdjuntosDTO toConAdjuntosDTO(Candidato candidato, List<AdjuntoDTO> adjuntos) {
+        CandidatoConAdjuntosDTO dto = new CandidatoConAdjuntosDTO();
+        copyToDTO(candidato, dto);
+        dto.setAdjuntos(adjuntos);
+        return dto;
+    }
+
+    /**
+     * Candidato cuyos adjuntos no se pudieron obtener: lista vacía y {@code adjuntosDisponibles} a {@code false}.
+     */
+    public CandidatoConAdjuntosDTO toConAdjuntosNoDisponiblesDTO(Candidato candidato) {
+        CandidatoConAdjuntosDTO dto = toConAdjuntosDTO(candidato, List.of());
+        dto.setAdjuntosDisponibles(false);
+        return dto;
+    }
+
+    private static void copyToDTO(Candidato candidato, CandidatoDTO dto) {
+        dto.setId(candidato.getId());
+        dto.setVersion(candidato.getVersion());
+        dto.setNombre(candidato.getNombre());
+        dto.setApellidos(candidato.getApellidos());
+        dto.setEmail(candidato.getEmail());
+        dto.setTelefono(candidato.getTelefono());
+        dto.setTipoDocumento(candidato.getTipoDocumento());
+        dto.setNumeroDocumento(candidato.getNumeroDocumento());
+        dto.setGenero(candidato.getGenero());
+        dto.setLugarNacimiento(candidato.getLugarNacimiento());
+        dto.setFechaNacimiento(candidato.getFechaNacimiento());
+        dto.setDireccion(candidato.getDireccion());
+        dto.setCodigoPostal(candidato.getCodigoPostal());
+        dto.setPais(candidato.getPais());
+        dto.setLocalizacion(candidato.getLocalizacion());
+        dto.setDisponibilidadDesde(candidato.getDisponibilidadDesde());
+        dto.setDisponibilidadHasta(candidato.getDisponibilidadHasta());
+    }
+}
@@ -0,0 +1,40 @@
+package com.eureka.api.model;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Fila de la tabla {@code candidatos}, cuyo esquema mantiene candidatos-service.
+ * Las columnas siguen la convención snake_case por defecto de Spring Data R2DBC.
+ */
+@Table("candidatos")
+@Getter
+@Setter
+public class Candidato {
+    @Id
+    private Integer id;
+    private String nombre;
+    private String apellidos;
+    private String email;
+    private String telefono;
+    private String tipoDocumento;
+    private String numeroDocumento;
+    private String genero;
+    private String lugarNacimiento;
+    private LocalDate fechaNacimiento;
+    private String direccion;
+    private String codigoPostal;
+    private String pais;
+    private String localizacion;
+    private LocalDate disponibilidadDesde;
+    private LocalDate disponibilidadHasta;
+    /** Se incrementa en cada UPDATE; sirve de ETag. */
+    @Version
+    private Long version;
+}
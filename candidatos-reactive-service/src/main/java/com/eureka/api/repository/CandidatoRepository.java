@@ -0,0 +1,15 @@
+package com.eureka.api.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import com.eureka.api.model.Candidato;
+
+import reactor.core.publisher.Flux;
+
+public interface CandidatoRepository extends ReactiveCrudRepository<Candidato, Integer> {
+    /**
+     * Bloque de candidatos siguiente a {@code id} (paginación por clave), para recorrer la tabla por partes.
+     */
+    Flux<Candidato> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+}
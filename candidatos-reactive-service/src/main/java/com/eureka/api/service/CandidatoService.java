@@ -0,0 +1,128 @@
+package com.eureka.api.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.eureka.api.clients.AdjuntoWebClient;
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.dto.CandidatoConAdjuntosDTO;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.exception.GatewayTimeoutException;
+import com.eureka.api.mapper.CandidatoMapper;
+import com.eureka.api.model.Candidato;
+import com.eureka.api.repository.CandidatoRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Consultas de candidatos sin bloquear hilos: R2DBC para la base de datos y WebClient para adjunto-service.
+ * Los listados se leen por bloques de {@value #BLOQUE} candidatos y cada bloque se pide cuando el cliente
+ * empieza a consumir el anterior, así que nunca hay más de dos bloques en memoria.
+ */
+@Service
+public class CandidatoService {
+    static final int BLOQUE = 500;
+
+    private final CandidatoRepository candidatoRepository;
+    private final CandidatoMapper candidatoMapper;
+    private final AdjuntoWebClient adjuntoWebClient;
+    private final Duration detalleTimeout;
+
+    public CandidatoService(
+            CandidatoRepository candidatoRepository,
+            CandidatoMapper candidatoMapper,
+            AdjuntoWebClient adjuntoWebClient,
+            @Value("${candidatos.detalle.timeout:2s}") Duration detalleTimeout) {
+        this.candidatoRepository = candidatoRepository;
+        this.candidatoMapper = candidatoMapper;
+        this.adjuntoWebClient = adjuntoWebClient;
+        this.detalleTimeout = detalleTimeout;
+    }
+
+    /**
+     * Los candidatos de un bloque se emiten de uno en uno con {@code concatMapIterable} y prefetch 1:
+     * con el de {@code flatMapIterable} (256) se leerían 256 bloques por adelantado.
+     */
+    public Flux<CandidatoDTO> findAll() {
+        return bloques()
+            .concatMapIterable(bloque -> bloque, 1)
+            .map(candidatoMapper::toDTO);
+    }
+
+    public Mono<CandidatoDTO> findById(Integer id) {
+        return candidatoRepository.findById(id).map(candidatoMapper::toDTO);
+    }
+
+    /**
+     * Obtiene un candidato con sus adjuntos asociados.
+     * La consulta a la base de datos y la llamada al servicio de adjuntos se lanzan a la vez y comparten
+     * un mismo plazo ({@code candidatos.detalle.timeout}). Si el candidato no existe, se cancela la llamada
+     * de adjuntos y se devuelve vacío. Si los adjuntos no llegan a tiempo o adjunto-service falla, se
+     * devuelve el candidato con los adjuntos marcados como no disponibles.
+     */
+    public Mono<CandidatoConAdjuntosDTO> findByIdWithAdjuntos(Integer id) {
+        Mono<Candidato> candidato = candidatoRepository.findById(id)
+            .timeout(detalleTimeout, Mono.error(
+                () -> new GatewayTimeoutException("Tiempo de espera agotado al obtener el candidato con ID " + id)));
+        Mono<Optional<List<AdjuntoDTO>>> adjuntos = disponibles(
+            adjuntoWebClient.getAdjuntosByCandidatoId(id).timeout(detalleTimeout));
+
+        return Mono.zip(candidato, adjuntos)
+            .map(resultado -> resultado.getT2()
+                .map(lista -> candidatoMapper.toConAdjuntosDTO(resultado.getT1(), lista))
+                .orElseGet(() -> candidatoMapper.toConAdjuntosNoDisponiblesDTO(resultado.getT1())));
+    }
+
+    /**
+     * Obtiene todos los candidatos con sus adjuntos.
+     * Por cada bloque de candidatos se pide al servicio de adjuntos solo los adjuntos de esos candidatos
+     * en una única llamada. Si esa llamada falla, los candidatos del bloque se devuelven con los adjuntos
+     * marcados como no disponibles.
+     */
+    public Flux<CandidatoConAdjuntosDTO> findAllWithAdjuntos() {
+        return bloques().concatMap(bloque -> {
+            List<Integer> ids = bloque.stream().map(Candidato::getId).toList();
+            return disponibles(adjuntoWebClient.getAdjuntosByCandidatoIds(ids))
+                .flatMapIterable(adjuntosPorCandidato -> bloque.stream()
+                    .map(candidato -> conAdjuntos(candidato, adjuntosPorCandidato))
+                    .toList());
+        });
+    }
+
+    private CandidatoConAdjuntosDTO conAdjuntos(
+            Candidato candidato, Optional<Map<Integer, List<AdjuntoDTO>>> adjuntosPorCandidato) {
+        return adjuntosPorCandidato
+            .map(porCandidato -> candidatoMapper.toConAdjuntosDTO(
+                candidato, porCandidato.getOrDefault(candidato.getId(), List.of())))
+            .orElseGet(() -> candidatoMapper.toConAdjuntosNoDisponiblesDTO(candidato));
+    }
+
+    /**
+     * Convierte cualquier error de adjunto-service en un resultado vacío, para responder sin adjuntos.
+     */
+    private static <T> Mono<Optional<T>> disponibles(Mono<T> llamada) {
+        return llamada.map(Optional::of).onErrorResume(e -> Mono.just(Optional.empty()));
+    }
+
+    /**
+     * Recorre la tabla por bloques ordenados por ID; el siguiente bloque se consulta bajo demanda.
+     */
+    private Flux<List<Candidato>> bloques() {
+        return bloque(0)
+            .expand(bloque -> bloque.size() < BLOQUE
+                ? Mono.empty()
+                : bloque(bloque.get(bloque.size() - 1).getId()))
+            .filter(bloque -> !bloque.isEmpty());
+    }
+
+    private Mono<List<Candidato>> bloque(int despuesDeId) {
+        return candidatoRepository.findByIdGreaterThanOrderByIdAsc(despuesDeId, Limit.of(BLOQUE)).collectList();
+    }
+}
@@ -0,0 +1,313 @@
+package com.eureka.api.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.model.Candidato;
+import com.eureka.api.repository.CandidatoRepository;
+import com.eureka.api.service.CandidatoService;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Tests de integración de la variante reactiva: MySQL por R2DBC (Testcontainers) y el servicio
+ * de adjuntos simulado con WireMock.
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class CandidatoReactiveControllerTest {
+
+    @Container
+    @ServiceConnection
+    protected static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @RegisterExtension
+    static WireMockExtension wireMockServer = WireMockExtension.newInstance()
+        .options(WireMockConfiguration.wireMockConfig().port(9090))
+        .build();
+
+    private static final String BASE_PATH = "/api/v1/candidatos";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    /** Espía que delega en el repositorio real, para contar las consultas. */
+    @MockitoSpyBean
+    private CandidatoRepository candidatoRepository;
+
+    @Autowired
+    private CandidatoService candidatoService;
+
+    @BeforeEach
+    void cleanDatabase() {
+        candidatoRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos - Listado completo leído por bloques")
+    void testFindAll_ReadsAllBlocks() {
+        // Arrange: Más candidatos que un bloque
+        candidatoRepository.saveAll(IntStream.rangeClosed(1, 501)
+            .mapToObj(i -> candidato("bloque" + i + "@test.com"))
+            .toList()).blockLast();
+
+        // Act & Assert
+        List<CandidatoDTO> candidatos = webTestClient.get()
+            .uri(BASE_PATH)
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(CandidatoDTO.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(candidatos).hasSize(501);
+        assertThat(candidatos).extracting(CandidatoDTO::getId).isSorted();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos - Los bloques se consultan según la demanda del cliente")
+    void testFindAll_ReadsBlocksOnDemand() {
+        // Arrange: Tres bloques
+        candidatoRepository.saveAll(IntStream.rangeClosed(1, 1001)
+            .mapToObj(i -> candidato("demanda" + i + "@test.com"))
+            .toList()).blockLast();
+        clearInvocations(candidatoRepository);
+
+        // Act: El cliente pide 10 candidatos y no pide más
+        StepVerifier.create(candidatoService.findAll(), 10)
+            .expectNextCount(10)
+            .expectNoEvent(Duration.ofMillis(500))
+            .thenCancel()
+            .verify();
+
+        // Assert: Solo el bloque que se está enviando y, como mucho, el siguiente
+        verify(candidatoRepository, atMost(2)).findByIdGreaterThanOrderByIdAsc(anyInt(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos - Un candidato por línea con application/x-ndjson")
+    void testFindAll_Ndjson() {
+        // Arrange
+        candidatoRepository.save(candidato("ndjson1@test.com")).block();
+        candidatoRepository.save(candidato("ndjson2@test.com")).block();
+
+        // Act & Assert
+        webTestClient.get()
+            .uri(BASE_PATH)
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBody(String.class)
+            .value(cuerpo -> assertThat(cuerpo.lines()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos - Sin candidatos retorna 404")
+    void testFindAll_Empty() {
+        webTestClient.get()
+            .uri(BASE_PATH)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("No se encontraron candidatos");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id} - If-None-Match vigente retorna 304")
+    void testFindById_ConditionalGet() {
+        // Arrange
+        Candidato candidato = candidatoRepository.save(candidato("etag@test.com")).block();
+
+        // Act & Assert
+        String eTag = webTestClient.get()
+            .uri(BASE_PATH + "/{id}", candidato.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.email").isEqualTo("etag@test.com")
+            .returnResult()
+            .getResponseHeaders().getETag();
+        assertThat(eTag).isEqualTo("\"0\"");
+
+        webTestClient.get()
+            .uri(BASE_PATH + "/{id}", candidato.getId())
+            .header("If-None-Match", eTag)
+            .exchange()
+            .expectStatus().isNotModified();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id} - Candidato inexistente retorna 404")
+    void testFindById_NotFound() {
+        webTestClient.get()
+            .uri(BASE_PATH + "/{id}", 999)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("No se encontró un candidato con el ID dado 999");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Candidato y adjuntos obtenidos en paralelo")
+    void testFindByIdWithAdjuntos_Success() {
+        // Arrange
+        Candidato candidato = candidatoRepository.save(candidato("detalle@test.com")).block();
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/adjuntos/candidato/" + candidato.getId()))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    [
+                        {"id": 1, "candidatoId": %d, "extension": "pdf", "nombreArchivo": "cv.pdf"},
+                        {"id": 2, "candidatoId": %d, "extension": "jpg", "nombreArchivo": "foto.jpg"}
+                    ]""".formatted(candidato.getId(), candidato.getId()))));
+
+        // Act & Assert
+        webTestClient.get()
+            .uri(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().exists("ETag")
+            .expectBody()
+            .jsonPath("$.email").isEqualTo("detalle@test.com")
+            .jsonPath("$.adjuntos.length()").isEqualTo(2)
+            .jsonPath("$.adjuntosDisponibles").isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Plazo agotado retorna el candidato sin adjuntos")
+    void testFindByIdWithAdjuntos_Timeout() {
+        // Arrange
+        Candidato candidato = candidatoRepository.save(candidato("lento@test.com")).block();
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/adjuntos/candidato/" + candidato.getId()))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(5000)
+                .withHeader("Content-Type", "application/json")
+                .withBody("[]")));
+
+        // Act & Assert
+        webTestClient.get()
+            .uri(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().doesNotExist("ETag")
+            .expectBody()
+            .jsonPath("$.adjuntos.length()").isEqualTo(0)
+            .jsonPath("$.adjuntosDisponibles").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Candidato inexistente retorna 404")
+    void testFindByIdWithAdjuntos_NotFound() {
+        webTestClient.get()
+            .uri(BASE_PATH + "/{id}/adjuntos", 999)
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos/adjuntos - Adjuntos obtenidos por lotes de IDs")
+    void testFindAllWithAdjuntos_BatchLookup() {
+        // Arrange
+        Candidato conAdjuntos = candidatoRepository.save(candidato("lote1@test.com")).block();
+        Candidato sinAdjuntos = candidatoRepository.save(candidato("lote2@test.com")).block();
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {"%d": [{"id": 1, "candidatoId": %d, "extension": "pdf", "nombreArchivo": "cv.pdf"}]}
+                    """.formatted(conAdjuntos.getId(), conAdjuntos.getId()))));
+
+        // Act & Assert
+        webTestClient.get()
+            .uri(BASE_PATH + "/adjuntos")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(2)
+            .jsonPath("$[0].id").isEqualTo(conAdjuntos.getId())
+            .jsonPath("$[0].adjuntos.length()").isEqualTo(1)
+            .jsonPath("$[1].id").isEqualTo(sinAdjuntos.getId())
+            .jsonPath("$[1].adjuntos.length()").isEqualTo(0);
+
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/v1/adjuntos/candidatos")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/candidatos/adjuntos - Adjuntos no disponibles si falla la consulta por lotes")
+    void testFindAllWithAdjuntos_Degraded() {
+        // Arrange
+        candidatoRepository.save(candidato("degradado@test.com")).block();
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .willReturn(aResponse().withStatus(500)));
+
+        // Act & Assert
+        webTestClient.get()
+            .uri(BASE_PATH + "/adjuntos")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].adjuntos.length()").isEqualTo(0)
+            .jsonPath("$[0].adjuntosDisponibles").isEqualTo(false);
+    }
+
+    private static Candidato candidato(String email) {
+        Candidato candidato = new Candidato();
+        candidato.setNombre("Test");
+        candidato.setApellidos("User");
+        candidato.setEmail(email);
+        candidato.setTelefono("+56912345678");
+        candidato.setTipoDocumento("RUT");
+        candidato.setNumeroDocumento("12.345.678-9");
+        candidato.setGenero("M");
+        candidato.setLugarNacimiento("Santiago");
+        candidato.setFechaNacimiento(LocalDate.of(1990, 1, 1));
+        candidato.setDireccion("Calle Test 123");
+        candidato.setCodigoPostal("8320000");
+        candidato.setPais("Chile");
+        candidato.setLocalizacion("Santiago");
+        candidato.setDisponibilidadDesde(LocalDate.of(2025, 1, 1));
+        candidato.setDisponibilidadHasta(LocalDate.of(2025, 12, 31));
+        return candidato;
+    }
+}
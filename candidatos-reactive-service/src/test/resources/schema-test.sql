@@ -0,0 +1,20 @@
+-- Tabla candidatos con las mismas columnas que candidatos-service/src/main/resources/schema.sql
+CREATE TABLE IF NOT EXISTS candidatos (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    nombre VARCHAR(50) NOT NULL,
+    apellidos VARCHAR(50) NOT NULL,
+    email VARCHAR(150) NOT NULL UNIQUE,
+    telefono VARCHAR(20) NOT NULL,
+    tipo_documento VARCHAR(15) NOT NULL,
+    numero_documento VARCHAR(30) NOT NULL,
+    genero VARCHAR(20) NOT NULL,
+    lugar_nacimiento VARCHAR(200) NOT NULL,
+    fecha_nacimiento DATE NOT NULL,
+    direccion VARCHAR(200) NOT NULL,
+    codigo_postal VARCHAR(20) NOT NULL,
+    pais VARCHAR(50) NOT NULL,
+    localizacion VARCHAR(150) NOT NULL,
+    disponibilidad_desde DATE NOT NULL,
+    disponibilidad_hasta DATE NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
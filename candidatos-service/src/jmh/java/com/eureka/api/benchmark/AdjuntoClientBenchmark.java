@@ -0,0 +1,109 @@
+package com.eureka.api.benchmark;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eureka.api.ApiServiceApplication;
+import com.eureka.api.clients.AdjuntoFeignClient;
+import com.eureka.api.dto.AdjuntoDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+/**
+ * Llamadas concurrentes a {@link AdjuntoFeignClient} contra un WireMock local que hace de adjunto-service,
+ * con el pool de Apache HttpClient 5 ({@code hc5}) y con el cliente por defecto de Feign sobre
+ * {@code HttpURLConnection} ({@code default}, que solo guarda 5 conexiones keep-alive por destino).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AdjuntoClientBenchmark"
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class AdjuntoClientBenchmark {
+    private static final int CANDIDATOS = 100;
+
+    @Param({"hc5", "default"})
+    public String transporte;
+
+    /** Latencia simulada de adjunto-service, en milisegundos. */
+    @Param({"0", "5"})
+    public int latencia;
+
+    private WireMockServer wireMockServer;
+    private ConfigurableApplicationContext context;
+    private AdjuntoFeignClient adjuntoFeignClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig()
+            .dynamicPort()
+            .containerThreads(64)
+            .disableRequestJournal());
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathMatching("/api/v1/adjuntos/candidato/\\d+"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(latencia)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    [
+                        {"id": 1, "candidatoId": 1, "extension": "pdf", "nombreArchivo": "cv.pdf"},
+                        {"id": 2, "candidatoId": 1, "extension": "jpg", "nombreArchivo": "foto.jpg"}
+                    ]""")));
+
+        context = new SpringApplicationBuilder(ApiServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:adjuntos-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never",
+                "--eureka.client.enabled=false",
+                "--logging.level.root=WARN",
+                "--adjunto-service.url=http://localhost:" + wireMockServer.port(),
+                "--spring.cloud.openfeign.httpclient.hc5.enabled=" + transporte.equals("hc5"));
+        adjuntoFeignClient = context.getBean(AdjuntoFeignClient.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        wireMockServer.stop();
+    }
+
+    @Benchmark
+    public List<AdjuntoDTO> getAdjuntosByCandidatoId() {
+        return adjuntoFeignClient.getAdjuntosByCandidatoId(ThreadLocalRandom.current().nextInt(1, CANDIDATOS + 1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.eureka.api.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eureka.api.benchmark.CandidatoMappingBenchmark.BenchmarkData;
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.dto.CandidatoConAdjuntosDTO;
+import com.eureka.api.mapper.CandidatoMapper;
+import com.eureka.api.model.Candidato;
+
+/**
+ * Combinación de los candidatos con sus adjuntos en {@code findAllWithAdjuntos}
+ * ({@link CandidatoMapper#toConAdjuntosDTOs}): a cada candidato se le asignan los suyos del mapa que devuelve
+ * adjunto-service y se convierte a CandidatoConAdjuntosDTO. Con 10 adjuntos por candidato, así que 10.000 adjuntos
+ * son 1.000 candidatos. La agrupación del mapa en adjunto-service la mide
+ * {@code AdjuntoGroupingBenchmark} de ese servicio.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AdjuntosJoinBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class AdjuntosJoinBenchmark {
+    private static final int ADJUNTOS_POR_CANDIDATO = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    private int adjuntos;
+
+    private CandidatoMapper candidatoMapper;
+    private List<Candidato> candidatos;
+    private Optional<Map<Integer, List<AdjuntoDTO>>> adjuntosPorCandidato;
+
+    @Setup
+    public void setUp() {
+        candidatoMapper = new CandidatoMapper();
+        candidatos = IntStream.rangeClosed(1, adjuntos / ADJUNTOS_POR_CANDIDATO)
+            .mapToObj(BenchmarkData::candidato)
+            .toList();
+        adjuntosPorCandidato = Optional.of(candidatos.stream()
+            .collect(Collectors.toMap(Candidato::getId,
+                candidato -> BenchmarkData.adjuntos(candidato.getId(), ADJUNTOS_POR_CANDIDATO))));
+    }
+
+    @Benchmark
+    public List<CandidatoConAdjuntosDTO> combinar() {
+        return candidatoMapper.toConAdjuntosDTOs(candidatos, adjuntosPorCandidato);
+    }
+}
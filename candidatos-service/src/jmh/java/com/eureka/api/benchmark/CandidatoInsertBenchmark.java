@@ -0,0 +1,87 @@
+package com.eureka.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eureka.api.ApiServiceApplication;
+import com.eureka.api.benchmark.CandidatoMappingBenchmark.BenchmarkData;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.service.CandidatoService;
+
+/**
+ * Rendimiento de altas de candidatos con y sin el filtro de Bloom de emails.
+ * Sin filtro cada alta hace la consulta {@code existsByEmail} antes del INSERT.
+ *
+ * Por defecto usa H2 en memoria, donde una ida y vuelta a la base de datos es mucho más barata que contra
+ * MySQL por red. Para medir contra MySQL:
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="CandidatoInsertBenchmark
+ *     -jvmArgsAppend -Dbenchmark.datasource.url=jdbc:mysql://localhost:3306/eureka-project-db
+ *     -jvmArgsAppend -Dbenchmark.datasource.username=root"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CandidatoInsertBenchmark {
+    @Param({"true", "false"})
+    public boolean filtroEmail;
+
+    private ConfigurableApplicationContext context;
+    private CandidatoService candidatoService;
+    private final AtomicLong secuencia = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("benchmark.datasource.url",
+            "jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        boolean h2 = url.startsWith("jdbc:h2:");
+        context = new SpringApplicationBuilder(ApiServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + System.getProperty("benchmark.datasource.username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("benchmark.datasource.password", ""),
+                "--spring.datasource.driver-class-name=" + (h2 ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver"),
+                "--spring.jpa.properties.hibernate.dialect=" + (h2 ? "org.hibernate.dialect.H2Dialect" : "org.hibernate.dialect.MySQLDialect"),
+                "--spring.jpa.hibernate.ddl-auto=" + (h2 ? "create-drop" : "validate"),
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never",
+                "--eureka.client.enabled=false",
+                "--logging.level.root=WARN",
+                "--candidatos.email-filter.enabled=" + filtroEmail);
+        candidatoService = context.getBean(CandidatoService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CandidatoDTO save() {
+        return candidatoService.save(BenchmarkData.candidatoDTO(
+            "bench." + filtroEmail + "." + System.nanoTime() + "." + secuencia.incrementAndGet() + "@test.com"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.eureka.api.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.dto.CandidatoConAdjuntosDTO;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.mapper.CandidatoMapper;
+import com.eureka.api.model.Candidato;
+
+/**
+ * Compara el mapeo por reflexión de ModelMapper con CandidatoMapper.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="CandidatoMappingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CandidatoMappingBenchmark {
+    private ModelMapper modelMapper;
+    private CandidatoMapper candidatoMapper;
+    private Candidato candidato;
+    private CandidatoDTO candidatoDTO;
+    private List<AdjuntoDTO> adjuntos;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        candidatoMapper = new CandidatoMapper();
+        candidato = BenchmarkData.candidato(1);
+        candidatoDTO = candidatoMapper.toDTO(candidato);
+        adjuntos = BenchmarkData.adjuntos(1, 3);
+    }
+
+    @Benchmark
+    public CandidatoDTO modelMapperToDTO() {
+        return modelMapper.map(candidato, CandidatoDTO.class);
+    }
+
+    @Benchmark
+    public CandidatoDTO mapperToDTO() {
+        return candidatoMapper.toDTO(candidato);
+    }
+
+    @Benchmark
+    public CandidatoConAdjuntosDTO modelMapperToConAdjuntosDTO() {
+        CandidatoConAdjuntosDTO dto = modelMapper.map(candidato, CandidatoConAdjuntosDTO.class);
+        dto.setAdjuntos(adjuntos);
+        return dto;
+    }
+
+    @Benchmark
+    public CandidatoConAdjuntosDTO mapperToConAdjuntosDTO() {
+        return candidatoMapper.toConAdjuntosDTO(candidato, adjuntos);
+    }
+
+    @Benchmark
+    public Candidato modelMapperToEntity() {
+        return modelMapper.map(candidatoDTO, Candidato.class);
+    }
+
+    @Benchmark
+    public Candidato mapperToEntity() {
+        return candidatoMapper.toEntity(candidatoDTO);
+    }
+
+    /**
+     * Datos de prueba compartidos por los benchmarks.
+     */
+    static final class BenchmarkData {
+        private BenchmarkData() {
+        }
+
+        static Candidato candidato(int id) {
+            Candidato candidato = new Candidato();
+            candidato.setId(id);
+            candidato.setNombre("Juan");
+            candidato.setApellidos("Pérez");
+            candidato.setEmail("juan.perez" + id + "@test.com");
+            candidato.setTelefono("+56912345678");
+            candidato.setTipoDocumento("RUT");
+            candidato.setNumeroDocumento("12.345.678-9");
+            candidato.setGenero("M");
+            candidato.setLugarNacimiento("Santiago, Chile");
+            candidato.setFechaNacimiento(LocalDate.of(1990, 1, 1));
+            candidato.setDireccion("Calle Falsa 123");
+            candidato.setCodigoPostal("8320000");
+            candidato.setPais("Chile");
+            candidato.setLocalizacion("Santiago, Chile");
+            candidato.setDisponibilidadDesde(LocalDate.of(2025, 1, 1));
+            candidato.setDisponibilidadHasta(LocalDate.of(2025, 12, 31));
+            return candidato;
+        }
+
+        /**
+         * Candidato nuevo, sin ID, para guardarlo con CandidatoService: los mismos datos que {@link #candidato(int)}
+         * con el email indicado, que debe ser único.
+         */
+        static CandidatoDTO candidatoDTO(String email) {
+            Candidato candidato = candidato(0);
+            candidato.setEmail(email);
+            CandidatoDTO dto = new CandidatoMapper().toDTO(candidato);
+            dto.setId(null);
+            return dto;
+        }
+
+        static List<AdjuntoDTO> adjuntos(int candidatoId, int cantidad) {
+            return IntStream.rangeClosed(1, cantidad)
+                .mapToObj(i -> {
+                    AdjuntoDTO adjunto = new AdjuntoDTO();
+                    adjunto.setId(i);
+                    adjunto.setCandidatoId(candidatoId);
+                    adjunto.setExtension("pdf");
+                    adjunto.setNombreArchivo("documento_" + i + ".pdf");
+                    return adjunto;
+                })
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.eureka.api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.eureka.api.benchmark.CandidatoMappingBenchmark.BenchmarkData;
+import com.eureka.api.dto.CandidatoConAdjuntosDTO;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.mapper.CandidatoMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Serialización a JSON de las respuestas de listado ({@code GET /api/v1/candidatos} y {@code /adjuntos}) con un
+ * ObjectMapper configurado como el de Spring Boot, con 3 adjuntos por candidato.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="JsonSerializationBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int candidatos;
+
+    private ObjectMapper objectMapper;
+    private List<CandidatoDTO> listaCandidatos;
+    private List<CandidatoConAdjuntosDTO> listaCandidatosConAdjuntos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        CandidatoMapper candidatoMapper = new CandidatoMapper();
+        listaCandidatos = IntStream.rangeClosed(1, candidatos)
+            .mapToObj(id -> candidatoMapper.toDTO(BenchmarkData.candidato(id)))
+            .toList();
+        listaCandidatosConAdjuntos = IntStream.rangeClosed(1, candidatos)
+            .mapToObj(id -> candidatoMapper.toConAdjuntosDTO(BenchmarkData.candidato(id), BenchmarkData.adjuntos(id, 3)))
+            .toList();
+    }
+
+    @Benchmark
+    public byte[] candidatos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listaCandidatos);
+    }
+
+    @Benchmark
+    public byte[] candidatosConAdjuntos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listaCandidatosConAdjuntos);
+    }
+}
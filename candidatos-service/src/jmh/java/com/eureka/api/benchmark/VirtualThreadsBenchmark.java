@@ -0,0 +1,129 @@
+package com.eureka.api.benchmark;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eureka.api.ApiServiceApplication;
+import com.eureka.api.benchmark.CandidatoMappingBenchmark.BenchmarkData;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.service.CandidatoService;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+/**
+ * 1024 clientes concurrentes contra {@code GET /api/v1/candidatos/{id}/adjuntos} sobre Tomcat, con las peticiones
+ * atendidas en hilos virtuales ({@code spring.threads.virtual.enabled=true}) o en el pool de 200 hilos de
+ * plataforma de Tomcat. Cada petición consulta la base de datos (H2 en memoria) y espera la respuesta de un
+ * WireMock que hace de adjunto-service con una latencia fija, así que el hilo pasa la mayor parte del tiempo
+ * bloqueado en E/S. El modo SampleTime da los percentiles de latencia (p99 incluido).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="VirtualThreadsBenchmark"
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(1024)
+@State(Scope.Benchmark)
+public class VirtualThreadsBenchmark {
+    private static final int CANDIDATOS = 100;
+
+    @Param({"true", "false"})
+    public boolean hilosVirtuales;
+
+    /** Latencia simulada de adjunto-service, en milisegundos. */
+    @Param({"50"})
+    public int latenciaAdjuntos;
+
+    private WireMockServer wireMockServer;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private List<URI> uris;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig()
+            .dynamicPort()
+            .containerThreads(256)
+            .disableRequestJournal());
+        wireMockServer.start();
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(latenciaAdjuntos)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{}")));
+
+        context = new SpringApplicationBuilder(ApiServiceApplication.class)
+            .run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + hilosVirtuales,
+                "--spring.datasource.url=jdbc:h2:mem:hilos-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never",
+                "--eureka.client.enabled=false",
+                "--logging.level.root=WARN",
+                "--candidatos.detalle.timeout=30s",
+                "--adjunto-service.url=http://localhost:" + wireMockServer.port());
+
+        CandidatoService candidatoService = context.getBean(CandidatoService.class);
+        String puerto = context.getEnvironment().getProperty("local.server.port");
+        uris = new ArrayList<>();
+        for (int i = 0; i < CANDIDATOS; i++) {
+            CandidatoDTO candidato = candidatoService.save(BenchmarkData.candidatoDTO("hilos." + i + "@test.com"));
+            uris.add(URI.create("http://localhost:" + puerto + "/api/v1/candidatos/" + candidato.getId() + "/adjuntos"));
+        }
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+        wireMockServer.stop();
+    }
+
+    @Benchmark
+    public int getCandidatoConAdjuntos() throws IOException, InterruptedException {
+        URI uri = uris.get(ThreadLocalRandom.current().nextInt(CANDIDATOS));
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Respuesta inesperada " + response.statusCode() + " de " + uri);
+        }
+        return response.statusCode();
+    }
+}
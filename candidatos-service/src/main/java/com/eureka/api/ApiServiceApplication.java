@@ -8,7 +8,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @EnableFeignClients
 @EnableDiscoveryClient
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.eureka.api", "com.eureka.common"})
 public class ApiServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,162 @@
+package com.eureka.api.clients;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eureka.api.dto.AdjuntoDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Agrupa las consultas de adjuntos por candidato que llegan casi a la vez en una sola llamada por lotes
+ * a adjunto-service. La primera consulta abre un lote que se envía al pasar
+ * {@code candidatos.adjuntos.lote.ventana} o al reunir {@code candidatos.adjuntos.lote.max-candidatos}
+ * candidatos distintos, lo que ocurra antes. Las consultas del mismo candidato dentro de un lote comparten
+ * la respuesta.
+ *
+ * El resultado es el de {@link AdjuntoClient}: vacío si adjunto-service no está disponible.
+ *
+ * El envío de cada lote es un span {@code candidatos.adjuntos.lote} dentro de la traza de la consulta que abrió
+ * (o llenó) el lote; las demás consultas del lote solo ven su espera.
+ */
+@Component
+public class AdjuntoBatchLoader {
+    private final AdjuntoClient adjuntoClient;
+    private final ExecutorService virtualThreadExecutor;
+    private final ObservationRegistry observationRegistry;
+    private final boolean habilitado;
+    private final Duration ventana;
+    private final int maxCandidatos;
+
+    private final DistributionSummary tamanoLote;
+    private final Timer esperaLote;
+    private final Counter consultasCompartidas;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Lote abierto que recibe consultas; null si no hay ninguno. Protegido por {@code lock}. */
+    private Lote abierto;
+
+    public AdjuntoBatchLoader(
+            AdjuntoClient adjuntoClient,
+            ExecutorService virtualThreadExecutor,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            @Value("${candidatos.adjuntos.lote.enabled:true}") boolean habilitado,
+            @Value("${candidatos.adjuntos.lote.ventana:2ms}") Duration ventana,
+            @Value("${candidatos.adjuntos.lote.max-candidatos:100}") int maxCandidatos) {
+        this.adjuntoClient = adjuntoClient;
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.observationRegistry = observationRegistry;
+        this.habilitado = habilitado;
+        this.ventana = ventana;
+        this.maxCandidatos = maxCandidatos;
+        this.tamanoLote = DistributionSummary.builder("candidatos.adjuntos.lote.tamano")
+            .description("Candidatos distintos por llamada por lotes a adjunto-service")
+            .register(meterRegistry);
+        this.esperaLote = Timer.builder("candidatos.adjuntos.lote.espera")
+            .description("Tiempo desde la primera consulta de un lote hasta su envío a adjunto-service")
+            .register(meterRegistry);
+        this.consultasCompartidas = Counter.builder("candidatos.adjuntos.lote.compartidas")
+            .description("Consultas resueltas con la respuesta de otra consulta del mismo candidato en el lote")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Adjuntos de un candidato. Cancelar el future devuelto no afecta al resto de consultas del lote.
+     */
+    public CompletableFuture<Optional<List<AdjuntoDTO>>> load(Integer candidatoId) {
+        if (!habilitado) {
+            return CompletableFuture.supplyAsync(
+                () -> adjuntoClient.getAdjuntosByCandidatoId(candidatoId), virtualThreadExecutor);
+        }
+
+        CompletableFuture<Optional<List<AdjuntoDTO>>> resultado;
+        Lote completo = null;
+        lock.lock();
+        try {
+            if (abierto == null) {
+                abierto = new Lote();
+                Lote lote = abierto;
+                virtualThreadExecutor.execute(() -> enviarAlVencer(lote));
+            }
+            resultado = abierto.consultas.get(candidatoId);
+            if (resultado != null) {
+                consultasCompartidas.increment();
+            } else {
+                resultado = new CompletableFuture<>();
+                abierto.consultas.put(candidatoId, resultado);
+                if (abierto.consultas.size() >= maxCandidatos) {
+                    completo = abierto;
+                    abierto = null;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (completo != null) {
+            Lote lote = completo;
+            virtualThreadExecutor.execute(() -> enviar(lote));
+        }
+        return resultado.copy();
+    }
+
+    /**
+     * Espera la ventana y envía el lote si sigue abierto; si se llenó antes, ya lo envió quien lo cerró.
+     */
+    private void enviarAlVencer(Lote lote) {
+        try {
+            Thread.sleep(ventana);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            if (abierto != lote) {
+                return;
+            }
+            abierto = null;
+        } finally {
+            lock.unlock();
+        }
+        enviar(lote);
+    }
+
+    private void enviar(Lote lote) {
+        tamanoLote.record(lote.consultas.size());
+        esperaLote.record(System.nanoTime() - lote.inicio, TimeUnit.NANOSECONDS);
+        try {
+            Observation.createNotStarted("candidatos.adjuntos.lote", observationRegistry)
+                .contextualName("enviar lote de adjuntos")
+                .highCardinalityKeyValue("candidatos", String.valueOf(lote.consultas.size()))
+                .observe(() -> {
+                    Optional<Map<Integer, List<AdjuntoDTO>>> adjuntos = adjuntoClient.getAdjuntosByCandidatoIds(lote.consultas.keySet());
+                    lote.consultas.forEach((candidatoId, consulta) ->
+                        consulta.complete(adjuntos.map(porCandidato -> porCandidato.getOrDefault(candidatoId, List.of()))));
+                });
+        } catch (RuntimeException e) {
+            lote.consultas.values().forEach(consulta -> consulta.completeExceptionally(e));
+        }
+    }
+
+    private static final class Lote {
+        private final long inicio = System.nanoTime();
+        /** Una consulta por candidato, en orden de llegada. No cambia una vez cerrado el lote. */
+        private final Map<Integer, CompletableFuture<Optional<List<AdjuntoDTO>>>> consultas = new LinkedHashMap<>();
+    }
+}
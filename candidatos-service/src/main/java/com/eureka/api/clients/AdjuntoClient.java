@@ -0,0 +1,91 @@
+package com.eureka.api.clients;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.eureka.api.dto.AdjuntoDTO;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Acceso protegido al servicio de adjuntos. Cada llamada pasa por un bulkhead (límite de llamadas
+ * concurrentes, sin espera) y un circuit breaker que se abre si adjunto-service falla o responde lento.
+ * Los plazos de cada llamada son los de Feign ({@code spring.cloud.openfeign.client.config.adjunto-service.*}).
+ *
+ * Si la llamada no se permite o falla, se devuelve vacío para responder con los datos del candidato
+ * y los adjuntos marcados como no disponibles.
+ */
+@Component
+public class AdjuntoClient {
+    public static final String NAME = "adjunto-service";
+
+    private final AdjuntoFeignClient adjuntoFeignClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public AdjuntoClient(
+            AdjuntoFeignClient adjuntoFeignClient,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry) {
+        this.adjuntoFeignClient = adjuntoFeignClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+    }
+
+    /**
+     * Adjuntos de un candidato; un 404 de adjunto-service equivale a una lista vacía.
+     */
+    public Optional<List<AdjuntoDTO>> getAdjuntosByCandidatoId(Integer candidatoId) {
+        return call(() -> {
+            try {
+                return adjuntoFeignClient.getAdjuntosByCandidatoId(candidatoId);
+            } catch (FeignException.NotFound e) {
+                return List.of();
+            }
+        });
+    }
+
+    /**
+     * Adjuntos de varios candidatos agrupados por ID; un 404 de adjunto-service equivale a un mapa vacío.
+     */
+    public Optional<Map<Integer, List<AdjuntoDTO>>> getAdjuntosByCandidatoIds(Collection<Integer> candidatoIds) {
+        return call(() -> {
+            try {
+                return adjuntoFeignClient.getAdjuntosByCandidatoIds(candidatoIds);
+            } catch (FeignException.NotFound e) {
+                return Map.of();
+            }
+        });
+    }
+
+    /**
+     * Elimina todos los adjuntos de un candidato. Devuelve false si no se pudo completar y hay que reintentar.
+     */
+    public boolean deleteAdjuntosByCandidatoId(Integer candidatoId) {
+        return call(() -> {
+            adjuntoFeignClient.deleteAdjuntosByCandidatoId(candidatoId);
+            return true;
+        }).isPresent();
+    }
+
+    private <T> Optional<T> call(Supplier<T> llamada) {
+        // El bulkhead va por fuera para que sus rechazos no cuenten como fallos del circuit breaker
+        Supplier<T> protegida = Bulkhead.decorateSupplier(bulkhead, circuitBreaker.decorateSupplier(llamada));
+        try {
+            return Optional.of(protegida.get());
+        } catch (CallNotPermittedException | BulkheadFullException | FeignException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.eureka.api.clients;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.eureka.api.dto.AdjuntoDTO;
 
@@ -23,6 +27,9 @@ public interface AdjuntoFeignClient {
     @GetMapping("/api/v1/adjuntos/candidato/{candidatoId}")
     List<AdjuntoDTO> getAdjuntosByCandidatoId(@PathVariable("candidatoId") Integer candidatoId);
 
-    @DeleteMapping("/api/v1/adjuntos/{id}")
-    void deleteAdjuntoById(@PathVariable("id") Integer id);
+    @PostMapping("/api/v1/adjuntos/candidatos")
+    Map<Integer, List<AdjuntoDTO>> getAdjuntosByCandidatoIds(@RequestBody Collection<Integer> candidatoIds);
+
+    @DeleteMapping("/api/v1/adjuntos/candidato/{candidatoId}")
+    void deleteAdjuntosByCandidatoId(@PathVariable("candidatoId") Integer candidatoId);
 }
@@ -0,0 +1,17 @@
+package com.eureka.api.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caché local de candidatos. El tamaño máximo y la expiración se configuran con
+ * {@code spring.cache.caffeine.spec} en application.properties.
+ * El interceptor de caché envuelve al transaccional para que las invalidaciones se apliquen
+ * después del commit y una lectura concurrente no vuelva a cargar el valor anterior.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+    public static final String CANDIDATOS_CACHE = "candidatos";
+}
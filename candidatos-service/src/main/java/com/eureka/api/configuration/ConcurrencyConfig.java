@@ -0,0 +1,26 @@
+package com.eureka.api.configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+
+@Configuration
+public class ConcurrencyConfig {
+
+    /**
+     * Executor de hilos virtuales para lanzar en paralelo llamadas bloqueantes (JDBC, Feign).
+     * Cada tarea obtiene su propio hilo virtual, así que no hay un pool que dimensionar.
+     * Las tareas heredan el contexto de quien las lanza (la observación en curso), así que sus spans
+     * quedan dentro de la traza de la petición.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService virtualThreadExecutor() {
+        return ContextExecutorService.wrap(
+            Executors.newVirtualThreadPerTaskExecutor(), ContextSnapshotFactory.builder().build());
+    }
+}
@@ -0,0 +1,82 @@
+package com.eureka.api.configuration;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Transporte de los clientes Feign: Apache HttpClient 5 con un pool de conexiones keep-alive, en lugar de
+ * una {@code HttpURLConnection} por llamada. Los límites del pool se configuran con
+ * {@code spring.cloud.openfeign.httpclient.*}; el uso del pool se publica en {@code httpcomponents.httpclient.pool.*}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.cloud.openfeign.httpclient.hc5.enabled", matchIfMissing = true)
+public class FeignClientConfig {
+    static final String POOL_NAME = "adjunto-service";
+
+    private final PoolingHttpClientConnectionManager pool;
+    private final TimeValue inactividadMaxima;
+
+    public FeignClientConfig(
+            FeignHttpClientProperties properties,
+            @Value("${candidatos.adjuntos.inactividad-maxima:30s}") Duration inactividadMaxima) {
+        FeignHttpClientProperties.Hc5Properties hc5 = properties.getHc5();
+        this.pool = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnections())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+            .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.valueOf(hc5.getPoolConcurrencyPolicy().name()))
+            .setConnPoolPolicy(PoolReusePolicy.valueOf(hc5.getPoolReusePolicy().name()))
+            .setDefaultSocketConfig(SocketConfig.custom()
+                .setSoTimeout(Timeout.of(hc5.getSocketTimeout(), hc5.getSocketTimeoutUnit()))
+                .build())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectionTimeout()))
+                .setTimeToLive(TimeValue.of(properties.getTimeToLive(), properties.getTimeToLiveUnit()))
+                // Una conexión que lleva un rato sin usarse se comprueba antes de reutilizarla
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+        this.inactividadMaxima = TimeValue.of(inactividadMaxima);
+    }
+
+    /**
+     * Sustituye al pool que crea spring-cloud-openfeign para medir cuánto espera cada petición por una conexión.
+     */
+    @Bean
+    public HttpClientConnectionManager hc5ConnectionManager(MeterRegistry meterRegistry) {
+        return new TimedConnectionManager(pool, meterRegistry, POOL_NAME);
+    }
+
+    /**
+     * Conexiones disponibles, en uso y peticiones en espera.
+     */
+    @Bean
+    public PoolingHttpClientConnectionManagerMetricsBinder hc5PoolMetrics() {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(pool, POOL_NAME);
+    }
+
+    /**
+     * Cierra las conexiones inactivas antes de que lo haga el servidor, para no reutilizar una conexión ya cerrada.
+     */
+    @Bean
+    public HttpClientBuilderCustomizer idleConnectionEviction() {
+        return builder -> builder.evictIdleConnections(inactividadMaxima);
+    }
+}
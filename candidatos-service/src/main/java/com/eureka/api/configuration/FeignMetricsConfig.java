@@ -0,0 +1,92 @@
+package com.eureka.api.configuration;
+
+import java.io.IOException;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.micrometer.FeignContext;
+import feign.micrometer.FeignObservationConvention;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Métricas {@code http.client.requests} de los clientes Feign con las mismas etiquetas que las de los clientes
+ * HTTP de Spring ({@code client.name}, {@code method}, {@code uri}, {@code status}, {@code outcome},
+ * {@code exception}). La etiqueta {@code uri} es la plantilla de la ruta, una por método de {@code AdjuntoFeignClient}.
+ *
+ * Sustituye a {@code MicrometerObservationCapability} de feign-micrometer ({@code spring.cloud.openfeign.micrometer.enabled=false}),
+ * que solo cierra la observación si la llamada lanza una {@code FeignException}: los plazos agotados y las conexiones
+ * rechazadas ({@code IOException}) no se medían y dejaban la observación abierta.
+ */
+@Configuration(proxyBeanMethods = false)
+public class FeignMetricsConfig {
+
+    @Bean
+    public ObservedClientCapability observedClientCapability(ObservationRegistry observationRegistry) {
+        return new ObservedClientCapability(observationRegistry);
+    }
+
+    /**
+     * Pública porque Feign invoca {@code enrich} por reflexión.
+     */
+    public static class ObservedClientCapability implements Capability {
+        private final ObservationRegistry observationRegistry;
+        private final ClientRequestObservationConvention convention = new ClientRequestObservationConvention();
+
+        ObservedClientCapability(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+        }
+
+        @Override
+        public Client enrich(Client client) {
+            return (request, options) -> {
+                FeignContext context = new FeignContext(request);
+                Observation observation = Observation.createNotStarted(convention, () -> context, observationRegistry).start();
+                try {
+                    Response response = client.execute(context.getCarrier(), options);
+                    context.setResponse(response);
+                    return response;
+                } catch (IOException | RuntimeException e) {
+                    observation.error(e);
+                    throw e;
+                } finally {
+                    observation.stop();
+                }
+            };
+        }
+    }
+
+    static class ClientRequestObservationConvention implements FeignObservationConvention {
+
+        @Override
+        public String getName() {
+            return "http.client.requests";
+        }
+
+        @Override
+        public String getContextualName(FeignContext context) {
+            return "http " + context.getCarrier().httpMethod().name().toLowerCase();
+        }
+
+        @Override
+        public KeyValues getLowCardinalityKeyValues(FeignContext context) {
+            Request request = context.getCarrier();
+            Response response = context.getResponse();
+            return KeyValues.of(
+                "client.name", request.requestTemplate().feignTarget().name(),
+                "method", request.httpMethod().name(),
+                "uri", request.requestTemplate().methodMetadata().template().url(),
+                // Sin respuesta (conexión rechazada, plazo agotado...) como en los clientes de Spring
+                "status", response != null ? String.valueOf(response.status()) : "CLIENT_ERROR",
+                "outcome", response != null ? Outcome.forStatus(response.status()).name() : Outcome.UNKNOWN.name(),
+                "exception", context.getError() != null ? context.getError().getClass().getSimpleName() : "none");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.eureka.api.configuration;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.eureka.common.cache.HibernateCacheManagerConfig;
+import com.eureka.common.cache.HibernateCacheRegion;
+
+/**
+ * Regiones de la caché de segundo nivel de Hibernate ({@link HibernateCacheManagerConfig}): entidades
+ * {@code Candidato} por ID, para las lecturas que no pasan por la caché de DTOs de {@link CacheConfig}
+ * (modificaciones, bajas, lotes y candidato con adjuntos). {@code CandidatoCambioService} invalida los candidatos
+ * modificados desde otras instancias.
+ */
+@Configuration(proxyBeanMethods = false)
+public class HibernateCacheConfig {
+    public static final String CANDIDATO_REGION = "candidato";
+
+    @Bean
+    public HibernateCacheRegion candidatoRegion(
+            @Value("${candidatos.cache.candidato.max-size}") long maxSize,
+            @Value("${candidatos.cache.candidato.ttl}") Duration ttl,
+            @Value("${candidatos.cache.candidato.inactividad:0}") Duration inactividad) {
+        return new HibernateCacheRegion(CANDIDATO_REGION, maxSize, ttl, inactividad);
+    }
+}
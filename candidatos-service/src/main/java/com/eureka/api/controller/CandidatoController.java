@@ -1,23 +1,42 @@
 package com.eureka.api.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.eureka.api.dto.AdjuntoDTO;
 import com.eureka.api.dto.CandidatoConAdjuntosDTO;
 import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.dto.ImportacionResultadoDTO;
+import com.eureka.api.dto.PaginaDTO;
+import com.eureka.api.exception.BadRequestException;
 import com.eureka.api.exception.NotFoundException;
+import com.eureka.api.service.CandidatoExportService;
+import com.eureka.api.service.CandidatoImportService;
 import com.eureka.api.service.CandidatoService;
+import com.eureka.common.http.ETags;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 
@@ -25,14 +44,22 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/v1/candidatos")
 public class CandidatoController {
     private final CandidatoService candidateService;
+    private final CandidatoExportService candidatoExportService;
+    private final CandidatoImportService candidatoImportService;
 
-    public CandidatoController(CandidatoService candidateService) {
+    public CandidatoController(
+            CandidatoService candidateService,
+            CandidatoExportService candidatoExportService,
+            CandidatoImportService candidatoImportService) {
         this.candidateService = candidateService;
+        this.candidatoExportService = candidatoExportService;
+        this.candidatoImportService = candidatoImportService;
     }
     
     @PostMapping
     public ResponseEntity<CandidatoDTO> save(@RequestBody @Valid CandidatoDTO candidateDTO) {
-        return new ResponseEntity<>(candidateService.save(candidateDTO), HttpStatus.CREATED);
+        CandidatoDTO saved = candidateService.save(candidateDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.version(saved.getVersion())).body(saved);
     }
 
     @GetMapping
@@ -44,10 +71,84 @@ public class CandidatoController {
         return ResponseEntity.ok(candidatesDTO);
     }
 
+    /**
+     * Listado paginado por cursor. Si se envía {@code cursor}, el orden se toma del propio cursor.
+     */
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaDTO<CandidatoDTO>> findPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(candidateService.findPage(cursor, size, sort, direction));
+    }
+
+    /**
+     * Candidatos disponibles en algún día del periodo indicado, paginados por cursor.
+     */
+    @GetMapping("/disponibles")
+    public ResponseEntity<PaginaDTO<CandidatoDTO>> findDisponibles(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(candidateService.findDisponibles(desde, hasta, cursor, size));
+    }
+
+    /**
+     * Búsqueda de candidatos por texto (nombre, apellidos, localización, lugar de nacimiento y país).
+     */
+    @GetMapping("/busqueda")
+    public ResponseEntity<List<CandidatoDTO>> buscar(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(candidateService.buscar(q, size));
+    }
+
+    /**
+     * Exportación completa en streaming. Formatos soportados: ndjson (por defecto) y csv.
+     */
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String formato, HttpServletResponse response) throws IOException {
+        switch (formato) {
+            case "ndjson" -> {
+                response.setContentType("application/x-ndjson");
+                response.setCharacterEncoding("UTF-8");
+                candidatoExportService.exportNdjson(response.getOutputStream());
+            }
+            case "csv" -> {
+                response.setContentType("text/csv");
+                response.setCharacterEncoding("UTF-8");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"candidatos.csv\"");
+                candidatoExportService.exportCsv(response.getOutputStream());
+            }
+            default -> throw new BadRequestException("Formato de exportación no soportado: " + formato);
+        }
+    }
+
+    /**
+     * Importación masiva desde un array JSON. Las filas inválidas se devuelven en {@code errores} y no se insertan.
+     */
+    @PostMapping(value = "/importar", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportacionResultadoDTO> importar(@RequestBody List<CandidatoDTO> candidatos) {
+        return ResponseEntity.ok(candidatoImportService.importar(candidatos));
+    }
+
+    /**
+     * Importación masiva desde un CSV con cabecera, leído en streaming.
+     */
+    @PostMapping(value = "/importar", consumes = "text/csv")
+    public ResponseEntity<ImportacionResultadoDTO> importarCsv(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(candidatoImportService.importarCsv(request.getInputStream()));
+    }
+
+    /**
+     * Con ETag en la respuesta, Spring contesta 304 sin serializar el cuerpo si coincide con If-None-Match.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<CandidatoDTO> findById(@PathVariable Integer id) {
         return candidateService.findById(id).map(
-            ResponseEntity::ok
+            candidato -> ResponseEntity.ok().eTag(ETags.version(candidato.getVersion())).body(candidato)
         ).orElseThrow(
             () -> new NotFoundException("No se encontró un candidato con el ID dado " + id)
         );
@@ -62,21 +163,51 @@ public class CandidatoController {
         return ResponseEntity.ok(candidatesDTO);
     }
 
+    /**
+     * El ETag combina la versión del candidato con los IDs de sus adjuntos, que no se modifican una vez creados.
+     * Una respuesta con los adjuntos no disponibles no lleva ETag, para que no se reutilice.
+     */
     @GetMapping("/{id}/adjuntos")
     public ResponseEntity<CandidatoConAdjuntosDTO> findByIdWithAdjuntos(@PathVariable Integer id) {
         return candidateService.findByIdWithAdjuntos(id)
-            .map(ResponseEntity::ok)
+            .map(candidato -> candidato.isAdjuntosDisponibles()
+                ? ResponseEntity.ok().eTag(eTag(candidato)).body(candidato)
+                : ResponseEntity.ok(candidato))
             .orElseThrow(() -> new NotFoundException("No se encontró un candidato con el ID dado " + id));
     }
 
+    private static String eTag(CandidatoConAdjuntosDTO candidato) {
+        return ETags.hash(LongStream.concat(
+            LongStream.of(candidato.getVersion()),
+            candidato.getAdjuntos().stream().mapToLong(AdjuntoDTO::getId).sorted()));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<CandidatoDTO> update(@PathVariable Integer id, @RequestBody @Valid CandidatoDTO candidateDTO) {
-        return ResponseEntity.ok(candidateService.update(id, candidateDTO));
+    public ResponseEntity<CandidatoDTO> update(
+            @PathVariable Integer id,
+            @RequestBody @Valid CandidatoDTO candidateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CandidatoDTO updated = candidateService.update(id, candidateDTO, ifMatch);
+        return ResponseEntity.ok().eTag(ETags.version(updated.getVersion())).body(updated);
+    }
+
+    /**
+     * Actualización parcial: solo se modifican los campos presentes en el cuerpo.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<CandidatoDTO> patch(
+            @PathVariable Integer id,
+            @RequestBody Map<String, Object> cambios,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CandidatoDTO updated = candidateService.patch(id, cambios, ifMatch);
+        return ResponseEntity.ok().eTag(ETags.version(updated.getVersion())).body(updated);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteById(@PathVariable Integer id) {
-        candidateService.deleteById(id);
+    public ResponseEntity<Void> deleteById(
+            @PathVariable Integer id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        candidateService.deleteById(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 }
@@ -9,4 +9,6 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(callSuper = true)
 public class CandidatoConAdjuntosDTO extends CandidatoDTO {
     private List<AdjuntoDTO> adjuntos;
+    /** {@code false} si no se pudo consultar adjunto-service; en ese caso {@code adjuntos} viene vacío. */
+    private boolean adjuntosDisponibles = true;
 }
@@ -6,12 +6,18 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
 import jakarta.validation.constraints.Size;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.Data;
 
 @Data
 public class CandidatoDTO {
     private Integer id;
 
+    /** Versión de la fila, solo para calcular el ETag; no forma parte del JSON. */
+    @JsonIgnore
+    private Long version;
+
     @NotBlank(message = "El nombre es obligatorio")
     @Size(max = 50, message = "El nombre debe tener como máximo 50 caracteres")
     private String nombre;
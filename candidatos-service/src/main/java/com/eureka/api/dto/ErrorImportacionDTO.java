@@ -0,0 +1,19 @@
+package com.eureka.api.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Errores de una fila de la importación, por campo. {@code fila} empieza en 1 y no cuenta la cabecera del CSV.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorImportacionDTO {
+    private int fila;
+    private String email;
+    private Map<String, String> errores;
+}
@@ -0,0 +1,19 @@
+package com.eureka.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una importación masiva. Las filas con errores no se insertan y el resto sí.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacionResultadoDTO {
+    private int total;
+    private int importados;
+    private List<ErrorImportacionDTO> errores;
+}
@@ -0,0 +1,20 @@
+package com.eureka.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de resultados paginados por cursor.
+ * El campo {@code next} es un token opaco que se envía tal cual para pedir la siguiente página;
+ * es {@code null} cuando no quedan más resultados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaDTO<T> {
+    private List<T> contenido;
+    private String next;
+}
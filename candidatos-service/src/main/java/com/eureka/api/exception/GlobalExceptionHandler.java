@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -47,6 +48,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ValidationErrorResponse> handleInvalidFieldsException(InvalidFieldsException exception, HttpServletRequest request) {
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+            LocalDate.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            exception.getMessage(),
+            request.getRequestURI(),
+            exception.getErrors()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(UniqueEmailException.class)
     public ResponseEntity<ErrorResponse> handleUniqueEmailException(UniqueEmailException exception, HttpServletRequest request) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -57,4 +70,51 @@ public class GlobalExceptionHandler {
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException exception, HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.PRECONDITION_FAILED.value(),
+            exception.getMessage(),
+            request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Otra petición modificó la fila entre la lectura y la escritura (columna {@code version}).
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception, HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.CONFLICT.value(),
+            "El recurso fue modificado por otra petición",
+            request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException exception, HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            exception.getMessage(),
+            request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(GatewayTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleGatewayTimeoutException(GatewayTimeoutException exception, HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.GATEWAY_TIMEOUT.value(),
+            exception.getMessage(),
+            request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.GATEWAY_TIMEOUT);
+    }
 }
@@ -0,0 +1,18 @@
+package com.eureka.api.exception;
+
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * Errores de validación por campo detectados fuera del binding de Spring (por ejemplo, en un PATCH).
+ */
+@Getter
+public class InvalidFieldsException extends RuntimeException {
+    private final Map<String, String> errors;
+
+    public InvalidFieldsException(Map<String, String> errors) {
+        super("Validation failed");
+        this.errors = errors;
+    }
+}
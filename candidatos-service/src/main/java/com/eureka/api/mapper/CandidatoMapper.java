@@ -0,0 +1,144 @@
+package com.eureka.api.mapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.eureka.api.dto.AdjuntoDTO;
+import com.eureka.api.dto.CandidatoConAdjuntosDTO;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.model.Candidato;
+
+/**
+ * Conversión entre la entidad Candidato y sus DTOs.
+ * Copia los campos de forma explícita, sin reflexión ni búsquedas de mapas de tipos en tiempo de ejecución.
+ */
+@Component
+public class CandidatoMapper {
+    /** Campos que se pueden modificar con {@link #patchEntity}. */
+    public static final Set<String> EDITABLE_FIELDS = Set.of(
+        "nombre", "apellidos", "email", "telefono", "tipoDocumento", "numeroDocumento", "genero",
+        "lugarNacimiento", "fechaNacimiento", "direccion", "codigoPostal", "pais", "localizacion",
+        "disponibilidadDesde", "disponibilidadHasta");
+
+    public CandidatoDTO toDTO(Candidato candidato) {
+        CandidatoDTO dto = new CandidatoDTO();
+        copyToDTO(candidato, dto);
+        return dto;
+    }
+
+    public CandidatoConAdjuntosDTO toConAdjuntosDTO(Candidato candidato, List<AdjuntoDTO> adjuntos) {
+        CandidatoConAdjuntosDTO dto = new CandidatoConAdjuntosDTO();
+        copyToDTO(candidato, dto);
+        dto.setAdjuntos(adjuntos);
+        return dto;
+    }
+
+    /**
+     * Candidato cuyos adjuntos no se pudieron obtener: lista vacía y {@code adjuntosDisponibles} a {@code false}.
+     */
+    public CandidatoConAdjuntosDTO toConAdjuntosNoDisponiblesDTO(Candidato candidato) {
+        CandidatoConAdjuntosDTO dto = toConAdjuntosDTO(candidato, List.of());
+        dto.setAdjuntosDisponibles(false);
+        return dto;
+    }
+
+    /**
+     * Asigna a cada candidato de un bloque sus adjuntos, los del mapa devuelto por adjunto-service o una lista vacía
+     * si no tiene. Sin mapa (adjunto-service no respondió) los candidatos se marcan con los adjuntos no disponibles.
+     */
+    public List<CandidatoConAdjuntosDTO> toConAdjuntosDTOs(List<Candidato> candidatos,
+            Optional<Map<Integer, List<AdjuntoDTO>>> adjuntosPorCandidato) {
+        List<CandidatoConAdjuntosDTO> result = new ArrayList<>(candidatos.size());
+        for (Candidato candidato : candidatos) {
+            if (adjuntosPorCandidato.isEmpty()) {
+                result.add(toConAdjuntosNoDisponiblesDTO(candidato));
+                continue;
+            }
+            List<AdjuntoDTO> adjuntos = adjuntosPorCandidato.get().getOrDefault(candidato.getId(), new ArrayList<>());
+            result.add(toConAdjuntosDTO(candidato, adjuntos));
+        }
+        return result;
+    }
+
+    /**
+     * Crea una entidad nueva a partir del DTO. El ID no se copia: lo asigna la base de datos.
+     */
+    public Candidato toEntity(CandidatoDTO dto) {
+        Candidato candidato = new Candidato();
+        updateEntity(candidato, dto);
+        return candidato;
+    }
+
+    /**
+     * Copia todos los campos editables del DTO sobre una entidad existente.
+     */
+    public void updateEntity(Candidato candidato, CandidatoDTO dto) {
+        candidato.setNombre(dto.getNombre());
+        candidato.setApellidos(dto.getApellidos());
+        candidato.setEmail(dto.getEmail());
+        candidato.setTelefono(dto.getTelefono());
+        candidato.setTipoDocumento(dto.getTipoDocumento());
+        candidato.setNumeroDocumento(dto.getNumeroDocumento());
+        candidato.setGenero(dto.getGenero());
+        candidato.setLugarNacimiento(dto.getLugarNacimiento());
+        candidato.setFechaNacimiento(dto.getFechaNacimiento());
+        candidato.setDireccion(dto.getDireccion());
+        candidato.setCodigoPostal(dto.getCodigoPostal());
+        candidato.setPais(dto.getPais());
+        candidato.setLocalizacion(dto.getLocalizacion());
+        candidato.setDisponibilidadDesde(dto.getDisponibilidadDesde());
+        candidato.setDisponibilidadHasta(dto.getDisponibilidadHasta());
+    }
+
+    /**
+     * Copia sobre la entidad solo los campos indicados del DTO (actualización parcial).
+     */
+    public void patchEntity(Candidato candidato, CandidatoDTO dto, Collection<String> fields) {
+        for (String field : fields) {
+            switch (field) {
+                case "nombre" -> candidato.setNombre(dto.getNombre());
+                case "apellidos" -> candidato.setApellidos(dto.getApellidos());
+                case "email" -> candidato.setEmail(dto.getEmail());
+                case "telefono" -> candidato.setTelefono(dto.getTelefono());
+                case "tipoDocumento" -> candidato.setTipoDocumento(dto.getTipoDocumento());
+                case "numeroDocumento" -> candidato.setNumeroDocumento(dto.getNumeroDocumento());
+                case "genero" -> candidato.setGenero(dto.getGenero());
+                case "lugarNacimiento" -> candidato.setLugarNacimiento(dto.getLugarNacimiento());
+                case "fechaNacimiento" -> candidato.setFechaNacimiento(dto.getFechaNacimiento());
+                case "direccion" -> candidato.setDireccion(dto.getDireccion());
+                case "codigoPostal" -> candidato.setCodigoPostal(dto.getCodigoPostal());
+                case "pais" -> candidato.setPais(dto.getPais());
+                case "localizacion" -> candidato.setLocalizacion(dto.getLocalizacion());
+                case "disponibilidadDesde" -> candidato.setDisponibilidadDesde(dto.getDisponibilidadDesde());
+                case "disponibilidadHasta" -> candidato.setDisponibilidadHasta(dto.getDisponibilidadHasta());
+                default -> throw new IllegalArgumentException("Campo no editable: " + field);
+            }
+        }
+    }
+
+    private static void copyToDTO(Candidato candidato, CandidatoDTO dto) {
+        dto.setId(candidato.getId());
+        dto.setVersion(candidato.getVersion());
+        dto.setNombre(candidato.getNombre());
+        dto.setApellidos(candidato.getApellidos());
+        dto.setEmail(candidato.getEmail());
+        dto.setTelefono(candidato.getTelefono());
+        dto.setTipoDocumento(candidato.getTipoDocumento());
+        dto.setNumeroDocumento(candidato.getNumeroDocumento());
+        dto.setGenero(candidato.getGenero());
+        dto.setLugarNacimiento(candidato.getLugarNacimiento());
+        dto.setFechaNacimiento(candidato.getFechaNacimiento());
+        dto.setDireccion(candidato.getDireccion());
+        dto.setCodigoPostal(candidato.getCodigoPostal());
+        dto.setPais(candidato.getPais());
+        dto.setLocalizacion(candidato.getLocalizacion());
+        dto.setDisponibilidadDesde(candidato.getDisponibilidadDesde());
+        dto.setDisponibilidadHasta(candidato.getDisponibilidadHasta());
+    }
+}
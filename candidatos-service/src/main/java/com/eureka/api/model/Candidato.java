@@ -1,18 +1,34 @@
 package com.eureka.api.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.eureka.api.configuration.HibernateCacheConfig;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "candidatos")
+@Table(name = "candidatos", indexes = {
+    @Index(name = "idx_candidatos_apellidos", columnList = "apellidos, id"),
+    @Index(name = "idx_candidatos_disponibilidad_desde", columnList = "disponibilidadDesde, id"),
+    @Index(name = "idx_candidatos_disponibilidad", columnList = "disponibilidadDesde, disponibilidadHasta")
+})
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CANDIDATO_REGION)
 @Getter
 @Setter
 public class Candidato {
@@ -49,4 +65,8 @@ public class Candidato {
     private LocalDate disponibilidadDesde;
     @Column(nullable = false)
     private LocalDate disponibilidadHasta;
+    /** Se incrementa en cada UPDATE; sirve de ETag y de bloqueo optimista. */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,44 @@
+package com.eureka.api.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Registro de una modificación de candidato. Cada instancia del servicio lee los registros nuevos
+ * para invalidar su caché local.
+ */
+@Entity
+@Table(name = "candidatos_cambios", indexes = {
+    @Index(name = "idx_candidatos_cambios_fecha", columnList = "fechaCambio")
+})
+@Getter
+@Setter
+public class CandidatoCambio {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Integer candidatoId;
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 15, nullable = false)
+    private TipoCambio tipo;
+    @Column(length = 100, nullable = false)
+    private String origen;
+    @Column(nullable = false)
+    private LocalDateTime fechaCambio;
+}
@@ -0,0 +1,48 @@
+package com.eureka.api.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Evento pendiente de enviar a otro servicio. Se inserta en la misma transacción que el cambio que lo
+ * origina y se borra cuando el envío tiene éxito.
+ */
+@Entity
+@Table(name = "outbox_eventos", indexes = {
+    @Index(name = "idx_outbox_eventos_proximo_intento", columnList = "proximoIntento, id")
+})
+@Getter
+@Setter
+public class OutboxEvento {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 30, nullable = false)
+    private TipoEvento tipo;
+    @Column(nullable = false)
+    private Integer candidatoId;
+    /** Envíos fallidos hasta ahora. */
+    @Column(nullable = false)
+    private int intentos;
+    @Column(nullable = false)
+    private LocalDateTime fechaCreacion;
+    /** El evento no se envía antes de esta fecha: tras un fallo, o mientras otra instancia lo tiene reservado. */
+    @Column(nullable = false)
+    private LocalDateTime proximoIntento;
+}
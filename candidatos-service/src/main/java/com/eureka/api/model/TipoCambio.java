@@ -0,0 +1,7 @@
+package com.eureka.api.model;
+
+public enum TipoCambio {
+    CREADO,
+    ACTUALIZADO,
+    ELIMINADO
+}
@@ -0,0 +1,6 @@
+package com.eureka.api.model;
+
+public enum TipoEvento {
+    /** Los adjuntos del candidato deben eliminarse en adjunto-service. */
+    CANDIDATO_ELIMINADO
+}
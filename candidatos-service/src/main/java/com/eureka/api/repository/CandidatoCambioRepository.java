@@ -0,0 +1,31 @@
+package com.eureka.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.api.model.CandidatoCambio;
+
+public interface CandidatoCambioRepository extends JpaRepository<CandidatoCambio, Long> {
+    /**
+     * En una transacción de escritura para leer siempre del primario: con réplicas de lectura, un registro aún no
+     * replicado se tomaría por un hueco y el checkpoint lo saltaría pasado el margen.
+     */
+    @Transactional
+    List<CandidatoCambio> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Transactional
+    @Query("select coalesce(max(c.id), 0) from CandidatoCambio c")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("delete from CandidatoCambio c where c.fechaCambio < :limite")
+    int deleteByFechaCambioBefore(@Param("limite") LocalDateTime limite);
+}
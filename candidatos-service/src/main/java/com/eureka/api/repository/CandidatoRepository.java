@@ -1,10 +1,63 @@
 package com.eureka.api.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.eureka.api.model.Candidato;
 
+import jakarta.persistence.QueryHint;
+
 
 public interface CandidatoRepository extends JpaRepository<Candidato, Integer> {
     boolean existsByEmail(String email);
+
+    @Query("select c.email from Candidato c where c.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Paginación por keyset: filtra por las claves de la posición en lugar de usar OFFSET
+     * y no ejecuta COUNT(*), por lo que el coste no depende de lo profunda que sea la página.
+     */
+    Window<Candidato> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Candidatos cuyo periodo de disponibilidad se solapa con [desde, hasta]. Con el índice
+     * (disponibilidad_desde, disponibilidad_hasta) ambas condiciones se evalúan sobre el índice
+     * antes de leer las filas. Solo se usa mientras se carga {@code DisponibilidadIndex}.
+     */
+    Window<Candidato> findByDisponibilidadDesdeLessThanEqualAndDisponibilidadHastaGreaterThanEqual(
+        LocalDate hasta, LocalDate desde, ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Recorre todos los candidatos sin materializarlos en memoria.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar; con {@code useCursorFetch}
+     * el driver de MySQL trae las filas en bloques del tamaño indicado. Sin pasar por la caché de segundo nivel,
+     * que el recorrido completo llenaría desalojando los candidatos más leídos.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select c from Candidato c order by c.id")
+    Stream<Candidato> streamAllBy();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c.email from Candidato c")
+    Stream<String> streamAllEmails();
 }
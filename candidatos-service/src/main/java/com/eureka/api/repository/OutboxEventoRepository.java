@@ -0,0 +1,37 @@
+package com.eureka.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.api.model.OutboxEvento;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, Long> {
+    /**
+     * Eventos que ya toca enviar, bloqueados con {@code FOR UPDATE SKIP LOCKED}: las filas que otra instancia
+     * está reservando se omiten en lugar de esperar. Debe llamarse dentro de una transacción.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2")) // LockOptions.SKIP_LOCKED
+    List<OutboxEvento> findByProximoIntentoLessThanEqualOrderByIdAsc(LocalDateTime fecha, Limit limit);
+
+    /**
+     * Aplaza el evento tras un envío fallido. No hace nada si otra instancia ya lo envió y lo borró.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvento e set e.intentos = :intentos, e.proximoIntento = :proximoIntento where e.id = :id")
+    int aplazar(@Param("id") Long id, @Param("intentos") int intentos, @Param("proximoIntento") LocalDateTime proximoIntento);
+}
@@ -0,0 +1,11 @@
+package com.eureka.api.service;
+
+import java.util.List;
+
+/**
+ * Se publica cuando se modifican candidatos: en esta instancia, dentro de la transacción que hace el cambio
+ * (escuchar con {@code @TransactionalEventListener}), o en otra instancia, al leer la tabla de cambios.
+ * Los oyentes deben volver a leer los candidatos; los que ya no existan han sido eliminados.
+ */
+public record CandidatoCambioEvent(List<Integer> candidatoIds) {
+}
@@ -0,0 +1,185 @@
+package com.eureka.api.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.api.configuration.CacheConfig;
+import com.eureka.api.model.Candidato;
+import com.eureka.api.model.CandidatoCambio;
+import com.eureka.api.model.TipoCambio;
+import com.eureka.api.repository.CandidatoCambioRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Mantiene coherentes la caché local de candidatos y la caché de segundo nivel de Hibernate entre varias
+ * instancias del servicio. Cada modificación se registra en la tabla {@code candidatos_cambios} dentro de la
+ * misma transacción, y cada instancia lee periódicamente los registros nuevos de otras instancias para invalidar
+ * sus entradas.
+ * En ambos casos se publica un {@link CandidatoCambioEvent} para el resto de estructuras en memoria.
+ */
+@Service
+public class CandidatoCambioService {
+    static final int LOTE_LECTURA = 500;
+
+    private final CandidatoCambioRepository candidatoCambioRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache candidatosCache;
+    private final jakarta.persistence.Cache entidadesCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String origen;
+    private final Duration margen;
+    private final Duration retencion;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Último ID de cambio a partir del cual ya no puede aparecer ningún registro pendiente; -1 hasta arrancar. */
+    private long checkpoint = -1;
+    /** Cambios posteriores al checkpoint que ya se han aplicado. */
+    private final Set<Long> aplicados = new HashSet<>();
+
+    public CandidatoCambioService(
+            CandidatoCambioRepository candidatoCambioRepository,
+            JdbcTemplate jdbcTemplate,
+            CacheManager cacheManager,
+            EntityManagerFactory entityManagerFactory,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${candidatos.instancia-id}") String origen,
+            @Value("${candidatos.cambios.margen:5s}") Duration margen,
+            @Value("${candidatos.cambios.retencion:1h}") Duration retencion) {
+        this.candidatoCambioRepository = candidatoCambioRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.candidatosCache = cacheManager.getCache(CacheConfig.CANDIDATOS_CACHE);
+        this.entidadesCache = entityManagerFactory.getCache();
+        this.eventPublisher = eventPublisher;
+        this.origen = origen;
+        this.margen = margen;
+        this.retencion = retencion;
+    }
+
+    /**
+     * Registra la modificación de un candidato. Debe llamarse dentro de la transacción que la realiza.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Integer candidatoId, TipoCambio tipo) {
+        CandidatoCambio cambio = new CandidatoCambio();
+        cambio.setCandidatoId(candidatoId);
+        cambio.setTipo(tipo);
+        cambio.setOrigen(origen);
+        cambio.setFechaCambio(LocalDateTime.now());
+        candidatoCambioRepository.save(cambio);
+        eventPublisher.publishEvent(new CandidatoCambioEvent(List.of(candidatoId)));
+    }
+
+    /**
+     * Registra la misma modificación para varios candidatos con un batch JDBC (importaciones masivas).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarTodos(List<Integer> candidatoIds, TipoCambio tipo) {
+        Timestamp fechaCambio = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+            "insert into candidatos_cambios (candidato_id, tipo, origen, fecha_cambio) values (?, ?, ?, ?)",
+            candidatoIds,
+            candidatoIds.size(),
+            (ps, candidatoId) -> {
+                ps.setInt(1, candidatoId);
+                ps.setString(2, tipo.name());
+                ps.setString(3, origen);
+                ps.setTimestamp(4, fechaCambio);
+            });
+        eventPublisher.publishEvent(new CandidatoCambioEvent(candidatoIds));
+    }
+
+    /**
+     * Al arrancar la caché está vacía, así que solo interesan los cambios posteriores.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        lock.lock();
+        try {
+            checkpoint = candidatoCambioRepository.findMaxId();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Aplica los cambios de otras instancias registrados desde la última lectura, por lotes de
+     * {@link #LOTE_LECTURA} mientras el checkpoint siga avanzando.
+     * Los IDs autoincrementales se asignan al insertar pero se hacen visibles al confirmar, por lo que
+     * puede haber huecos de transacciones aún abiertas. El checkpoint solo avanza sobre IDs consecutivos
+     * o sobre registros más antiguos que {@code candidatos.cambios.margen}; lo que queda por delante se
+     * vuelve a leer en la siguiente pasada y se omite si ya se aplicó.
+     */
+    @Scheduled(fixedDelayString = "${candidatos.cambios.intervalo:1000}")
+    public void sincronizar() {
+        lock.lock();
+        try {
+            if (checkpoint < 0) {
+                return;
+            }
+            boolean continuar;
+            do {
+                long inicio = checkpoint;
+                List<CandidatoCambio> cambios = candidatoCambioRepository
+                    .findByIdGreaterThanOrderByIdAsc(checkpoint, Limit.of(LOTE_LECTURA));
+                aplicar(cambios);
+                continuar = cambios.size() == LOTE_LECTURA && checkpoint > inicio;
+            } while (continuar);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void aplicar(List<CandidatoCambio> cambios) {
+        LocalDateTime limiteConfirmado = LocalDateTime.now().minus(margen);
+        List<Integer> modificados = new ArrayList<>();
+
+        boolean avanzar = true;
+        long anterior = checkpoint;
+        for (CandidatoCambio cambio : cambios) {
+            if (aplicados.add(cambio.getId()) && !origen.equals(cambio.getOrigen())) {
+                candidatosCache.evict(cambio.getCandidatoId());
+                entidadesCache.evict(Candidato.class, cambio.getCandidatoId());
+                modificados.add(cambio.getCandidatoId());
+            }
+            avanzar = avanzar
+                && (cambio.getId() == anterior + 1 || cambio.getFechaCambio().isBefore(limiteConfirmado));
+            if (avanzar) {
+                checkpoint = cambio.getId();
+            }
+            anterior = cambio.getId();
+        }
+        aplicados.removeIf(id -> id <= checkpoint);
+
+        if (!modificados.isEmpty()) {
+            eventPublisher.publishEvent(new CandidatoCambioEvent(modificados));
+        }
+    }
+
+    /**
+     * Elimina los registros más antiguos que {@code candidatos.cambios.retencion}.
+     */
+    @Scheduled(fixedDelayString = "${candidatos.cambios.purga-intervalo:600000}")
+    public void purgar() {
+        candidatoCambioRepository.deleteByFechaCambioBefore(LocalDateTime.now().minus(retencion));
+    }
+}
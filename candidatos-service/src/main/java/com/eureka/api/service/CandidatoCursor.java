@@ -0,0 +1,56 @@
+package com.eureka.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.eureka.api.exception.BadRequestException;
+import com.eureka.api.model.Candidato;
+
+/**
+ * Posición dentro del listado paginado de candidatos.
+ * Guarda el orden usado y las claves del último elemento entregado, y se serializa
+ * como un token opaco (Base64 URL-safe) para que el cliente lo devuelva en la siguiente petición.
+ */
+record CandidatoCursor(CandidatoSort sort, Sort.Direction direction, Integer id, Object key) {
+
+    private static final String SEPARATOR = "|";
+
+    static CandidatoCursor after(CandidatoSort sort, Sort.Direction direction, Candidato last) {
+        return new CandidatoCursor(sort, direction, last.getId(), sort.keyOf(last));
+    }
+
+    String encode() {
+        String raw = sort.name() + SEPARATOR + direction.name() + SEPARATOR + id
+            + (key != null ? SEPARATOR + key : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CandidatoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // La clave va al final y puede contener el separador (por ejemplo, en los apellidos)
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            CandidatoSort sort = CandidatoSort.valueOf(parts[0]);
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            Integer id = Integer.valueOf(parts[2]);
+            Object key = sort == CandidatoSort.ID ? null : sort.parseKey(parts[3]);
+            return new CandidatoCursor(sort, direction, id, key);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
+    ScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (key != null) {
+            keys.put(sort.getProperty(), key);
+        }
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,139 @@
+package com.eureka.api.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.mapper.CandidatoMapper;
+import com.eureka.api.model.Candidato;
+import com.eureka.api.repository.CandidatoRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Exportación masiva de candidatos en NDJSON o CSV.
+ * Las filas se leen como stream desde la base de datos y se escriben una a una en la respuesta,
+ * por lo que el uso de memoria no depende del número de candidatos.
+ */
+@Service
+public class CandidatoExportService {
+    private static final int FLUSH_EVERY = 500;
+
+    private static final String[] CSV_HEADER = {
+        "id", "nombre", "apellidos", "email", "telefono", "tipoDocumento", "numeroDocumento", "genero",
+        "lugarNacimiento", "fechaNacimiento", "direccion", "codigoPostal", "pais", "localizacion",
+        "disponibilidadDesde", "disponibilidadHasta"
+    };
+
+    private final CandidatoRepository candidatoRepository;
+    private final EntityManager entityManager;
+    private final CandidatoMapper candidatoMapper;
+    private final ObjectMapper objectMapper;
+
+    public CandidatoExportService(
+            CandidatoRepository candidatoRepository,
+            EntityManager entityManager,
+            CandidatoMapper candidatoMapper,
+            ObjectMapper objectMapper) {
+        this.candidatoRepository = candidatoRepository;
+        this.entityManager = entityManager;
+        this.candidatoMapper = candidatoMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Escribe un objeto JSON por línea (application/x-ndjson).
+     */
+    @Transactional(readOnly = true)
+    public void exportNdjson(OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        // Sin FLUSH_AFTER_WRITE_VALUE: se vacía cada FLUSH_EVERY filas, no en cada una
+        try (SequenceWriter sequenceWriter = objectMapper.writerFor(CandidatoDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(generator);
+             Stream<Candidato> candidatos = candidatoRepository.streamAllBy()) {
+            int rows = 0;
+            for (Candidato candidato : (Iterable<Candidato>) candidatos::iterator) {
+                sequenceWriter.write(toDTO(candidato));
+                if (++rows % FLUSH_EVERY == 0) {
+                    sequenceWriter.flush();
+                }
+            }
+            // Sin filas el cuerpo queda vacío, no un salto de línea suelto
+            if (rows > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        // El SequenceWriter no cierra el generador, que aún tiene en su búfer el salto de línea final
+        generator.flush();
+        output.flush();
+    }
+
+    /**
+     * Escribe un CSV con cabecera, siguiendo el escapado de RFC 4180.
+     */
+    @Transactional(readOnly = true)
+    public void exportCsv(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+
+        try (Stream<Candidato> candidatos = candidatoRepository.streamAllBy()) {
+            int rows = 0;
+            for (Candidato candidato : (Iterable<Candidato>) candidatos::iterator) {
+                CandidatoDTO dto = toDTO(candidato);
+                writeCsvRow(writer,
+                    dto.getId(), dto.getNombre(), dto.getApellidos(), dto.getEmail(), dto.getTelefono(),
+                    dto.getTipoDocumento(), dto.getNumeroDocumento(), dto.getGenero(), dto.getLugarNacimiento(),
+                    dto.getFechaNacimiento(), dto.getDireccion(), dto.getCodigoPostal(), dto.getPais(),
+                    dto.getLocalizacion(), dto.getDisponibilidadDesde(), dto.getDisponibilidadHasta());
+                if (++rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private CandidatoDTO toDTO(Candidato candidato) {
+        CandidatoDTO dto = candidatoMapper.toDTO(candidato);
+        // Sin esto el contexto de persistencia retendría todas las entidades leídas
+        entityManager.detach(candidato);
+        return dto;
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
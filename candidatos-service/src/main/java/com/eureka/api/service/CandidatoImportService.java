@@ -0,0 +1,293 @@
+package com.eureka.api.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.dto.ErrorImportacionDTO;
+import com.eureka.api.dto.ImportacionResultadoDTO;
+import com.eureka.api.exception.BadRequestException;
+import com.eureka.api.model.TipoCambio;
+import com.eureka.api.repository.CandidatoRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Importación masiva de candidatos desde un array JSON o un CSV.
+ * Las filas se procesan por bloques de {@link #BLOQUE}: se validan en paralelo, se comprueban los emails
+ * del bloque en una sola consulta y las filas válidas se insertan con un batch JDBC en una transacción por bloque.
+ * Las filas con errores se informan y no se insertan; el resto del bloque sí.
+ */
+@Service
+public class CandidatoImportService {
+    static final int BLOQUE = 1000;
+
+    /**
+     * Con {@code rewriteBatchedStatements} el driver de MySQL envía cada batch como un único INSERT
+     * multi-fila; el AUTO_INCREMENT asigna IDs consecutivos y el driver los devuelve como claves generadas.
+     */
+    private static final String INSERT_CANDIDATO = "insert into candidatos (nombre, apellidos, email, telefono, "
+        + "tipo_documento, numero_documento, genero, lugar_nacimiento, fecha_nacimiento, direccion, codigo_postal, "
+        + "pais, localizacion, disponibilidad_desde, disponibilidad_hasta, version) "
+        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final Map<String, BiConsumer<CandidatoDTO, String>> CSV_COLUMNAS = Map.ofEntries(
+        Map.entry("nombre", CandidatoDTO::setNombre),
+        Map.entry("apellidos", CandidatoDTO::setApellidos),
+        Map.entry("email", CandidatoDTO::setEmail),
+        Map.entry("telefono", CandidatoDTO::setTelefono),
+        Map.entry("tipoDocumento", CandidatoDTO::setTipoDocumento),
+        Map.entry("numeroDocumento", CandidatoDTO::setNumeroDocumento),
+        Map.entry("genero", CandidatoDTO::setGenero),
+        Map.entry("lugarNacimiento", CandidatoDTO::setLugarNacimiento),
+        Map.entry("fechaNacimiento", (dto, valor) -> dto.setFechaNacimiento(LocalDate.parse(valor))),
+        Map.entry("direccion", CandidatoDTO::setDireccion),
+        Map.entry("codigoPostal", CandidatoDTO::setCodigoPostal),
+        Map.entry("pais", CandidatoDTO::setPais),
+        Map.entry("localizacion", CandidatoDTO::setLocalizacion),
+        Map.entry("disponibilidadDesde", (dto, valor) -> dto.setDisponibilidadDesde(LocalDate.parse(valor))),
+        Map.entry("disponibilidadHasta", (dto, valor) -> dto.setDisponibilidadHasta(LocalDate.parse(valor)))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CandidatoRepository candidatoRepository;
+    private final Validator validator;
+    private final CandidatoCambioService candidatoCambioService;
+    private final EmailBloomFilter emailBloomFilter;
+
+    public CandidatoImportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CandidatoRepository candidatoRepository,
+            Validator validator,
+            CandidatoCambioService candidatoCambioService,
+            EmailBloomFilter emailBloomFilter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.candidatoRepository = candidatoRepository;
+        this.validator = validator;
+        this.candidatoCambioService = candidatoCambioService;
+        this.emailBloomFilter = emailBloomFilter;
+    }
+
+    public ImportacionResultadoDTO importar(List<CandidatoDTO> candidatos) {
+        Importacion importacion = new Importacion();
+        List<Fila> bloque = new ArrayList<>(BLOQUE);
+        for (int i = 0; i < candidatos.size(); i++) {
+            bloque.add(new Fila(i + 1, candidatos.get(i), new LinkedHashMap<>()));
+            if (bloque.size() == BLOQUE) {
+                importacion.procesar(bloque);
+                bloque.clear();
+            }
+        }
+        importacion.procesar(bloque);
+        return importacion.resultado();
+    }
+
+    /**
+     * Importa un CSV con cabecera (los nombres de columna son los campos de {@link CandidatoDTO}, como en la
+     * exportación; la columna {@code id} se ignora). Se lee en streaming, bloque a bloque.
+     */
+    public ImportacionResultadoDTO importarCsv(InputStream input) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        List<String> cabecera = reader.next();
+        if (cabecera == null) {
+            throw new BadRequestException("El CSV está vacío");
+        }
+        for (String columna : cabecera) {
+            if (!columna.equals("id") && !CSV_COLUMNAS.containsKey(columna)) {
+                throw new BadRequestException("Columna desconocida en el CSV: " + columna);
+            }
+        }
+
+        Importacion importacion = new Importacion();
+        List<Fila> bloque = new ArrayList<>(BLOQUE);
+        int numero = 0;
+        List<String> valores;
+        while ((valores = reader.next()) != null) {
+            if (valores.size() == 1 && valores.get(0).isEmpty()) {
+                continue;
+            }
+            bloque.add(parseFila(++numero, cabecera, valores));
+            if (bloque.size() == BLOQUE) {
+                importacion.procesar(bloque);
+                bloque.clear();
+            }
+        }
+        importacion.procesar(bloque);
+        return importacion.resultado();
+    }
+
+    private static Fila parseFila(int numero, List<String> cabecera, List<String> valores) {
+        CandidatoDTO candidato = new CandidatoDTO();
+        Map<String, String> errores = new LinkedHashMap<>();
+        for (int i = 0; i < cabecera.size() && i < valores.size(); i++) {
+            BiConsumer<CandidatoDTO, String> setter = CSV_COLUMNAS.get(cabecera.get(i));
+            String valor = valores.get(i);
+            if (setter == null || valor.isEmpty()) {
+                continue;
+            }
+            try {
+                setter.accept(candidato, valor);
+            } catch (DateTimeParseException e) {
+                errores.put(cabecera.get(i), "Fecha inválida: " + valor);
+            }
+        }
+        return new Fila(numero, candidato, errores);
+    }
+
+    private record Fila(int numero, CandidatoDTO candidato, Map<String, String> errores) {
+    }
+
+    /**
+     * Estado de una importación en curso: emails ya vistos y resultado acumulado.
+     */
+    private class Importacion {
+        private final Set<String> emailsVistos = new HashSet<>();
+        private final List<ErrorImportacionDTO> errores = new ArrayList<>();
+        private int total;
+        private int importados;
+
+        void procesar(List<Fila> bloque) {
+            if (bloque.isEmpty()) {
+                return;
+            }
+            total += bloque.size();
+
+            // Validación en paralelo: cada fila solo escribe en su propio mapa de errores
+            bloque.parallelStream().forEach(fila -> {
+                for (ConstraintViolation<CandidatoDTO> violation : validator.validate(fila.candidato())) {
+                    fila.errores().putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+                }
+            });
+
+            List<Fila> validas = new ArrayList<>(bloque.size());
+            for (Fila fila : bloque) {
+                if (fila.errores().isEmpty() && !emailsVistos.add(normalizar(fila.candidato().getEmail()))) {
+                    fila.errores().put("email", "Email duplicado en la importación");
+                }
+                if (fila.errores().isEmpty()) {
+                    validas.add(fila);
+                }
+            }
+
+            try {
+                insertar(descartarEmailsExistentes(validas));
+            } catch (DataIntegrityViolationException e) {
+                // Otro proceso ha insertado alguno de los emails después de la comprobación: se repite una vez
+                insertar(descartarEmailsExistentes(validas));
+            }
+
+            for (Fila fila : bloque) {
+                if (!fila.errores().isEmpty()) {
+                    errores.add(new ErrorImportacionDTO(fila.numero(), fila.candidato().getEmail(), fila.errores()));
+                }
+            }
+        }
+
+        private List<Fila> descartarEmailsExistentes(List<Fila> filas) {
+            if (filas.isEmpty()) {
+                return filas;
+            }
+            Set<String> existentes = candidatoRepository
+                .findExistingEmails(filas.stream().map(fila -> fila.candidato().getEmail()).toList())
+                .stream()
+                .map(CandidatoImportService::normalizar)
+                .collect(Collectors.toSet());
+            List<Fila> nuevas = new ArrayList<>(filas.size());
+            for (Fila fila : filas) {
+                if (existentes.contains(normalizar(fila.candidato().getEmail()))) {
+                    fila.errores().put("email", "Email existente");
+                } else {
+                    nuevas.add(fila);
+                }
+            }
+            return nuevas;
+        }
+
+        private void insertar(List<Fila> filas) {
+            if (filas.isEmpty()) {
+                return;
+            }
+            List<Integer> ids = transactionTemplate.execute(status -> {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(INSERT_CANDIDATO, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            setParametros(ps, filas.get(i).candidato());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return filas.size();
+                        }
+                    },
+                    keyHolder);
+                List<Integer> generados = keyHolder.getKeyList().stream()
+                    .map(claves -> ((Number) claves.values().iterator().next()).intValue())
+                    .toList();
+                candidatoCambioService.registrarTodos(generados, TipoCambio.CREADO);
+                return generados;
+            });
+            filas.forEach(fila -> emailBloomFilter.put(fila.candidato().getEmail()));
+            importados += ids.size();
+        }
+
+        ImportacionResultadoDTO resultado() {
+            return new ImportacionResultadoDTO(total, importados, errores);
+        }
+    }
+
+    private static void setParametros(PreparedStatement ps, CandidatoDTO candidato) throws SQLException {
+        ps.setString(1, candidato.getNombre());
+        ps.setString(2, candidato.getApellidos());
+        ps.setString(3, candidato.getEmail());
+        ps.setString(4, candidato.getTelefono());
+        ps.setString(5, candidato.getTipoDocumento());
+        ps.setString(6, candidato.getNumeroDocumento());
+        ps.setString(7, candidato.getGenero());
+        ps.setString(8, candidato.getLugarNacimiento());
+        ps.setDate(9, Date.valueOf(candidato.getFechaNacimiento()));
+        ps.setString(10, candidato.getDireccion());
+        ps.setString(11, candidato.getCodigoPostal());
+        ps.setString(12, candidato.getPais());
+        ps.setString(13, candidato.getLocalizacion());
+        ps.setDate(14, Date.valueOf(candidato.getDisponibilidadDesde()));
+        ps.setDate(15, Date.valueOf(candidato.getDisponibilidadHasta()));
+    }
+
+    private static String normalizar(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,211 @@
+package com.eureka.api.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eureka.api.model.Candidato;
+import com.eureka.api.repository.CandidatoRepository;
+import com.eureka.common.replicas.LecturaTrasEscritura;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Índice invertido en memoria sobre nombre, apellidos, localización, lugar de nacimiento y país.
+ * Los términos se normalizan sin tildes ni mayúsculas y se guardan ordenados, de modo que la búsqueda
+ * por prefijo es un recorrido de un rango del mapa. Se carga al arrancar y se actualiza con cada
+ * {@link CandidatoCambioEvent}.
+ */
+@Component
+public class CandidatoSearchIndex {
+    static final int PESO_NOMBRE = 3;
+    static final int PESO_APELLIDOS = 3;
+    static final int PESO_LOCALIZACION = 2;
+    static final int PESO_LUGAR_NACIMIENTO = 1;
+    static final int PESO_PAIS = 1;
+    /** Candidatos que se vuelven a leer por consulta al aplicar un cambio. */
+    private static final int LOTE_RECARGA = 1000;
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final CandidatoRepository candidatoRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate recargaTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Serializa los cambios: cada uno relee y aplica sin que otro más antiguo se aplique después. */
+    private final ReentrantLock recarga = new ReentrantLock();
+    /** Término -> (ID de candidato -> peso del término en ese candidato). */
+    private final TreeMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    /** Términos de cada candidato, para poder retirarlo del índice. */
+    private final Map<Integer, Set<String>> terminosPorCandidato = new HashMap<>();
+
+    public CandidatoSearchIndex(
+            CandidatoRepository candidatoRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.candidatoRepository = candidatoRepository;
+        this.entityManager = entityManager;
+        this.recargaTemplate = new TransactionTemplate(transactionManager);
+        this.recargaTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.recargaTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void cargar() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            terminosPorCandidato.clear();
+            try (Stream<Candidato> candidatos = candidatoRepository.streamAllBy()) {
+                candidatos.forEach(candidato -> {
+                    agregar(candidato);
+                    entityManager.detach(candidato);
+                });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Vuelve a indexar los candidatos modificados. Los cambios locales se aplican al confirmar la
+     * transacción; los de otras instancias llegan fuera de transacción y se aplican en el momento.
+     * Los candidatos se releen en una transacción nueva, no en la sesión de la que los modificó, y con
+     * {@code recarga} tomado: un cambio que lee antes que otro también se aplica antes. Se releen del
+     * primario, porque las réplicas pueden no tener aún el cambio.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCambio(CandidatoCambioEvent event) {
+        List<Integer> ids = event.candidatoIds();
+        recarga.lock();
+        try {
+            for (int i = 0; i < ids.size(); i += LOTE_RECARGA) {
+                List<Integer> lote = ids.subList(i, Math.min(i + LOTE_RECARGA, ids.size()));
+                List<Candidato> candidatos = LecturaTrasEscritura.enPrimario(
+                    () -> recargaTemplate.execute(status -> candidatoRepository.findAllById(lote)));
+                lock.writeLock().lock();
+                try {
+                    lote.forEach(this::quitar);
+                    candidatos.forEach(this::agregar);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            recarga.unlock();
+        }
+    }
+
+    /**
+     * Devuelve los IDs de los candidatos que contienen todos los términos de la consulta (como término
+     * completo o como prefijo), ordenados por relevancia. Cada término puntúa el mayor peso de campo en
+     * que aparece, el doble si la coincidencia es exacta.
+     */
+    public List<Integer> buscar(String consulta, int limite) {
+        List<String> terminos = tokenizar(consulta).distinct().toList();
+        if (terminos.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> puntuaciones = null;
+        lock.readLock().lock();
+        try {
+            for (String termino : terminos) {
+                Map<Integer, Integer> previas = puntuaciones;
+                Map<Integer, Integer> coincidencias = new HashMap<>();
+                for (Map.Entry<String, Map<Integer, Integer>> entrada
+                        : postings.subMap(termino, true, termino + Character.MAX_VALUE, false).entrySet()) {
+                    int factor = entrada.getKey().equals(termino) ? 2 : 1;
+                    for (Map.Entry<Integer, Integer> posting : entrada.getValue().entrySet()) {
+                        if (previas == null || previas.containsKey(posting.getKey())) {
+                            coincidencias.merge(posting.getKey(), posting.getValue() * factor, Math::max);
+                        }
+                    }
+                }
+                if (previas != null) {
+                    coincidencias.replaceAll((id, puntos) -> puntos + previas.get(id));
+                }
+                puntuaciones = coincidencias;
+                if (puntuaciones.isEmpty()) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return puntuaciones.entrySet().stream()
+            .sorted(Map.Entry.<Integer, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limite)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    private void agregar(Candidato candidato) {
+        Map<String, Integer> pesos = new HashMap<>();
+        indexarCampo(pesos, candidato.getNombre(), PESO_NOMBRE);
+        indexarCampo(pesos, candidato.getApellidos(), PESO_APELLIDOS);
+        indexarCampo(pesos, candidato.getLocalizacion(), PESO_LOCALIZACION);
+        indexarCampo(pesos, candidato.getLugarNacimiento(), PESO_LUGAR_NACIMIENTO);
+        indexarCampo(pesos, candidato.getPais(), PESO_PAIS);
+
+        Integer id = candidato.getId();
+        pesos.forEach((termino, peso) -> postings.computeIfAbsent(termino, t -> new HashMap<>()).put(id, peso));
+        terminosPorCandidato.put(id, new HashSet<>(pesos.keySet()));
+    }
+
+    private void quitar(Integer id) {
+        Set<String> terminos = terminosPorCandidato.remove(id);
+        if (terminos == null) {
+            return;
+        }
+        for (String termino : terminos) {
+            Map<Integer, Integer> candidatos = postings.get(termino);
+            candidatos.remove(id);
+            if (candidatos.isEmpty()) {
+                postings.remove(termino);
+            }
+        }
+    }
+
+    /**
+     * Un término que aparece en varios campos del mismo candidato pesa la suma de los campos.
+     */
+    private static void indexarCampo(Map<String, Integer> pesos, String valor, int peso) {
+        if (valor != null) {
+            tokenizar(valor).distinct().forEach(termino -> pesos.merge(termino, peso, Integer::sum));
+        }
+    }
+
+    static Stream<String> tokenizar(String texto) {
+        String normalizado = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.splitAsStream(normalizado.toLowerCase(Locale.ROOT))
+            .filter(termino -> !termino.isEmpty());
+    }
+
+}
@@ -1,147 +1,472 @@
 package com.eureka.api.service;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.eureka.api.clients.AdjuntoFeignClient;
+import com.eureka.api.clients.AdjuntoBatchLoader;
+import com.eureka.api.clients.AdjuntoClient;
+import com.eureka.api.configuration.CacheConfig;
 import com.eureka.api.dto.AdjuntoDTO;
 import com.eureka.api.dto.CandidatoConAdjuntosDTO;
 import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.api.dto.PaginaDTO;
+import com.eureka.api.exception.BadRequestException;
+import com.eureka.api.exception.GatewayTimeoutException;
+import com.eureka.api.exception.InvalidFieldsException;
 import com.eureka.api.exception.NotFoundException;
+import com.eureka.api.exception.PreconditionFailedException;
 import com.eureka.api.exception.UniqueEmailException;
+import com.eureka.api.mapper.CandidatoMapper;
 import com.eureka.api.model.Candidato;
+import com.eureka.api.model.TipoCambio;
+import com.eureka.api.model.TipoEvento;
 import com.eureka.api.repository.CandidatoRepository;
+import com.eureka.common.http.ETags;
+import com.eureka.common.replicas.LecturaTrasEscritura;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import feign.FeignException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class CandidatoService {
+    static final int MAX_PAGE_SIZE = 100;
+    /** Candidatos por cada llamada por lotes al servicio de adjuntos (el servicio admite hasta 1000). */
+    static final int ADJUNTOS_BATCH_SIZE = 500;
+
     private final CandidatoRepository candidatoRepository;
-    private final ModelMapper modelMapper;
-    private final AdjuntoFeignClient adjuntoFeignClient;
+    private final CandidatoMapper candidatoMapper;
+    private final CandidatoCambioService candidatoCambioService;
+    private final OutboxService outboxService;
+    private final EmailBloomFilter emailBloomFilter;
+    private final CandidatoSearchIndex candidatoSearchIndex;
+    private final DisponibilidadIndex disponibilidadIndex;
+    private final AdjuntoClient adjuntoClient;
+    private final AdjuntoBatchLoader adjuntoBatchLoader;
+    private final ExecutorService virtualThreadExecutor;
+    private final ObservationRegistry observationRegistry;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Duration detalleTimeout;
 
     public CandidatoService(
             CandidatoRepository candidateRepository, 
-            ModelMapper modelMapper,
-            AdjuntoFeignClient adjuntoFeignClient) {
+            CandidatoMapper candidatoMapper,
+            CandidatoCambioService candidatoCambioService,
+            OutboxService outboxService,
+            EmailBloomFilter emailBloomFilter,
+            CandidatoSearchIndex candidatoSearchIndex,
+            DisponibilidadIndex disponibilidadIndex,
+            AdjuntoClient adjuntoClient,
+            AdjuntoBatchLoader adjuntoBatchLoader,
+            ExecutorService virtualThreadExecutor,
+            ObservationRegistry observationRegistry,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${candidatos.detalle.timeout:2s}") Duration detalleTimeout) {
         this.candidatoRepository = candidateRepository;
-        this.modelMapper = modelMapper;
-        this.adjuntoFeignClient = adjuntoFeignClient;
+        this.candidatoMapper = candidatoMapper;
+        this.candidatoCambioService = candidatoCambioService;
+        this.outboxService = outboxService;
+        this.emailBloomFilter = emailBloomFilter;
+        this.candidatoSearchIndex = candidatoSearchIndex;
+        this.disponibilidadIndex = disponibilidadIndex;
+        this.adjuntoClient = adjuntoClient;
+        this.adjuntoBatchLoader = adjuntoBatchLoader;
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.observationRegistry = observationRegistry;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.detalleTimeout = detalleTimeout;
     }
 
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.CANDIDATOS_CACHE, key = "#result.id")
     public CandidatoDTO save(CandidatoDTO candidateDTO) {
-        if (candidatoRepository.existsByEmail(candidateDTO.getEmail())) {
+        checkEmailDisponible(candidateDTO.getEmail());
+        Candidato candidate = saveAndFlush(candidatoMapper.toEntity(candidateDTO));
+        candidatoCambioService.registrar(candidate.getId(), TipoCambio.CREADO);
+        return candidatoMapper.toDTO(candidate);
+    }
+
+    /**
+     * Comprobación previa de email duplicado para devolver el error sin intentar la escritura.
+     * Solo consulta la base de datos si el filtro de Bloom no descarta el email.
+     */
+    private void checkEmailDisponible(String email) {
+        if (emailBloomFilter.mightContain(email) && candidatoRepository.existsByEmail(email)) {
             throw new UniqueEmailException("Email existente");
         }
-        Candidato candidate = modelMapper.map(candidateDTO, Candidato.class);
-        return modelMapper.map(candidatoRepository.save(candidate), CandidatoDTO.class);
     }
 
+    /**
+     * Escribe el candidato y traduce la violación de la restricción UNIQUE del email, que es la que
+     * garantiza la unicidad aunque se omita o pierda la carrera la comprobación previa.
+     */
+    private Candidato saveAndFlush(Candidato candidate) {
+        Candidato saved;
+        try {
+            saved = candidatoRepository.saveAndFlush(candidate);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateKey(e)) {
+                throw new UniqueEmailException("Email existente");
+            }
+            throw e;
+        }
+        emailBloomFilter.put(saved.getEmail());
+        return saved;
+    }
+
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return e instanceof DuplicateKeyException
+            || (e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE);
+    }
+
+    @Transactional(readOnly = true)
     public List<CandidatoDTO> findAll() {
         return candidatoRepository.findAll().stream()
-            .map(candidate -> modelMapper.map(candidate, CandidatoDTO.class))
+            .map(candidatoMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene una página de candidatos usando paginación por keyset.
+     * El tamaño de página se acota a {@link #MAX_PAGE_SIZE}.
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<CandidatoDTO> findPage(String cursor, int size, String sortProperty, String direction) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        CandidatoSort sort;
+        Sort.Direction sortDirection;
+        ScrollPosition position;
+        if (cursor != null && !cursor.isBlank()) {
+            CandidatoCursor decoded = CandidatoCursor.decode(cursor);
+            sort = decoded.sort();
+            sortDirection = decoded.direction();
+            position = decoded.toScrollPosition();
+        } else {
+            sort = CandidatoSort.fromProperty(sortProperty);
+            sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BadRequestException("Dirección de orden inválida: " + direction));
+            position = ScrollPosition.keyset();
+        }
+
+        Window<Candidato> window = candidatoRepository.findAllBy(position, sort.toSort(sortDirection), Limit.of(pageSize));
+        List<CandidatoDTO> contenido = window.stream()
+            .map(candidatoMapper::toDTO)
             .collect(Collectors.toList());
+
+        String next = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            next = CandidatoCursor.after(sort, sortDirection, window.getContent().get(window.size() - 1)).encode();
+        }
+        return new PaginaDTO<>(contenido, next);
     }
 
+    /**
+     * Candidatos disponibles algún día del periodo [desde, hasta], ordenados por inicio de disponibilidad,
+     * paginados por cursor. Se resuelve con el índice de intervalos en memoria o, mientras se carga,
+     * con una consulta a la base de datos con el mismo orden y el mismo formato de cursor.
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<CandidatoDTO> findDisponibles(LocalDate desde, LocalDate hasta, String cursor, int size) {
+        if (desde.isAfter(hasta)) {
+            throw new BadRequestException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CandidatoSort sort = CandidatoSort.DISPONIBILIDAD_DESDE;
+        CandidatoCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = CandidatoCursor.decode(cursor);
+            if (after.sort() != sort || after.direction() != Sort.Direction.ASC) {
+                throw new BadRequestException("Cursor inválido");
+            }
+        }
+
+        List<Candidato> candidatos;
+        boolean hasNext;
+        if (disponibilidadIndex.isCargado()) {
+            List<Integer> ids = disponibilidadIndex.disponibles(desde, hasta,
+                after != null ? (LocalDate) after.key() : null, after != null ? after.id() : null, pageSize + 1);
+            hasNext = ids.size() > pageSize;
+            ids = ids.subList(0, Math.min(ids.size(), pageSize));
+            Map<Integer, Candidato> porId = candidatoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Candidato::getId, candidato -> candidato));
+            candidatos = ids.stream().map(porId::get).filter(Objects::nonNull).toList();
+        } else {
+            Window<Candidato> window = candidatoRepository
+                .findByDisponibilidadDesdeLessThanEqualAndDisponibilidadHastaGreaterThanEqual(
+                    hasta, desde,
+                    after != null ? after.toScrollPosition() : ScrollPosition.keyset(),
+                    sort.toSort(Sort.Direction.ASC),
+                    Limit.of(pageSize));
+            candidatos = window.getContent();
+            hasNext = window.hasNext();
+        }
+
+        String next = null;
+        if (hasNext && !candidatos.isEmpty()) {
+            next = CandidatoCursor.after(sort, Sort.Direction.ASC, candidatos.get(candidatos.size() - 1)).encode();
+        }
+        return new PaginaDTO<>(candidatos.stream().map(candidatoMapper::toDTO).collect(Collectors.toList()), next);
+    }
+
+    /**
+     * Búsqueda de texto sobre nombre, apellidos, localización, lugar de nacimiento y país,
+     * sin distinguir tildes ni mayúsculas y admitiendo prefijos. Los resultados van por relevancia.
+     */
+    @Transactional(readOnly = true)
+    public List<CandidatoDTO> buscar(String consulta, int size) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new BadRequestException("El parámetro q es obligatorio");
+        }
+        List<Integer> ids = candidatoSearchIndex.buscar(consulta, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Map<Integer, Candidato> candidatos = candidatoRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Candidato::getId, candidato -> candidato));
+        return ids.stream()
+            .map(candidatos::get)
+            .filter(Objects::nonNull)
+            .map(candidatoMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Se lee del primario: lo que se guarda en la caché no puede venir de una réplica retrasada, que podría
+     * devolver un candidato ya modificado o borrado.
+     */
+    @Cacheable(cacheNames = CacheConfig.CANDIDATOS_CACHE, key = "#id", unless = "#result == null")
     public Optional<CandidatoDTO> findById(Integer id) {
-        return candidatoRepository.findById(id)
-            .map(candidate -> modelMapper.map(candidate, CandidatoDTO.class));
+        return LecturaTrasEscritura.enPrimario(() -> candidatoRepository.findById(id)
+            .map(candidatoMapper::toDTO));
     }
 
-    public CandidatoDTO update(Integer id, CandidatoDTO candidateDTO) {
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CANDIDATOS_CACHE, key = "#id")
+    public CandidatoDTO update(Integer id, CandidatoDTO candidateDTO, String ifMatch) {
         Candidato existingCandidate = candidatoRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("No existe un candidato con el ID " + id));
+        checkIfMatch(existingCandidate, ifMatch);
         
         // Validar email único solo si es diferente al actual
-        if (!existingCandidate.getEmail().equals(candidateDTO.getEmail()) 
-            && candidatoRepository.existsByEmail(candidateDTO.getEmail())) {
-            throw new UniqueEmailException("Email existente");
+        if (!existingCandidate.getEmail().equals(candidateDTO.getEmail())) {
+            checkEmailDisponible(candidateDTO.getEmail());
         }
         
         // Actualizar los campos
-        existingCandidate.setNombre(candidateDTO.getNombre());
-        existingCandidate.setApellidos(candidateDTO.getApellidos());
-        existingCandidate.setEmail(candidateDTO.getEmail());
-        existingCandidate.setTelefono(candidateDTO.getTelefono());
-        existingCandidate.setTipoDocumento(candidateDTO.getTipoDocumento());
-        existingCandidate.setNumeroDocumento(candidateDTO.getNumeroDocumento());
-        existingCandidate.setGenero(candidateDTO.getGenero());
-        existingCandidate.setLugarNacimiento(candidateDTO.getLugarNacimiento());
-        existingCandidate.setFechaNacimiento(candidateDTO.getFechaNacimiento());
-        existingCandidate.setDireccion(candidateDTO.getDireccion());
-        existingCandidate.setCodigoPostal(candidateDTO.getCodigoPostal());
-        existingCandidate.setPais(candidateDTO.getPais());
-        existingCandidate.setLocalizacion(candidateDTO.getLocalizacion());
-        existingCandidate.setDisponibilidadDesde(candidateDTO.getDisponibilidadDesde());
-        existingCandidate.setDisponibilidadHasta(candidateDTO.getDisponibilidadHasta());
+        candidatoMapper.updateEntity(existingCandidate, candidateDTO);
         
-        Candidato updatedCandidate = candidatoRepository.save(existingCandidate);
-        return modelMapper.map(updatedCandidate, CandidatoDTO.class);
+        Candidato updatedCandidate = saveAndFlush(existingCandidate);
+        candidatoCambioService.registrar(id, TipoCambio.ACTUALIZADO);
+        return candidatoMapper.toDTO(updatedCandidate);
+    }
+
+    /**
+     * Actualización parcial: solo se validan y copian los campos presentes en {@code cambios}, y gracias a
+     * {@code @DynamicUpdate} el UPDATE solo incluye las columnas que cambian. Si no cambia nada no se escribe.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CANDIDATOS_CACHE, key = "#id")
+    public CandidatoDTO patch(Integer id, Map<String, Object> cambios, String ifMatch) {
+        CandidatoDTO parcial = readPatch(cambios);
+        Candidato existingCandidate = candidatoRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("No existe un candidato con el ID " + id));
+        checkIfMatch(existingCandidate, ifMatch);
+
+        if (cambios.containsKey("email") && !existingCandidate.getEmail().equals(parcial.getEmail())) {
+            checkEmailDisponible(parcial.getEmail());
+        }
+
+        CandidatoDTO before = candidatoMapper.toDTO(existingCandidate);
+        candidatoMapper.patchEntity(existingCandidate, parcial, cambios.keySet());
+        CandidatoDTO after = candidatoMapper.toDTO(existingCandidate);
+        if (after.equals(before)) {
+            return after;
+        }
+
+        Candidato updatedCandidate = saveAndFlush(existingCandidate);
+        candidatoCambioService.registrar(id, TipoCambio.ACTUALIZADO);
+        return candidatoMapper.toDTO(updatedCandidate);
     }
 
-    public void deleteById(Integer id) {
+    /**
+     * Convierte y valida uno a uno los campos del documento parcial.
+     */
+    private CandidatoDTO readPatch(Map<String, Object> cambios) {
+        if (cambios.isEmpty()) {
+            throw new BadRequestException("No se indicó ningún campo a modificar");
+        }
+        CandidatoDTO parcial = new CandidatoDTO();
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> cambio : cambios.entrySet()) {
+            String field = cambio.getKey();
+            if (!CandidatoMapper.EDITABLE_FIELDS.contains(field)) {
+                errors.put(field, "Campo desconocido o no editable");
+                continue;
+            }
+            try {
+                objectMapper.updateValue(parcial, Collections.singletonMap(field, cambio.getValue()));
+            } catch (JsonMappingException e) {
+                errors.put(field, "Formato inválido");
+                continue;
+            }
+            for (ConstraintViolation<CandidatoDTO> violation : validator.validateProperty(parcial, field)) {
+                errors.putIfAbsent(field, violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidFieldsException(errors);
+        }
+        return parcial;
+    }
+
+    /**
+     * Elimina el candidato y deja en el outbox la eliminación de sus adjuntos, que se envía a adjunto-service
+     * en segundo plano una vez confirmada la transacción ({@link OutboxService}).
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CANDIDATOS_CACHE, key = "#id")
+    public void deleteById(Integer id, String ifMatch) {
         Candidato candidate = candidatoRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("No existe un candidato con el ID " + id));
+        checkIfMatch(candidate, ifMatch);
         candidatoRepository.delete(candidate);
+        candidatoCambioService.registrar(id, TipoCambio.ELIMINADO);
+        outboxService.registrar(id, TipoEvento.CANDIDATO_ELIMINADO);
     }
 
     /**
-     * Obtiene un candidato con sus adjuntos asociados
+     * Comprueba la cabecera If-Match contra la versión leída. Si otra petición escribe entre esta
+     * comprobación y el UPDATE, lo detecta la columna {@code version} al hacer flush.
+     */
+    private static void checkIfMatch(Candidato candidato, String ifMatch) {
+        if (!ETags.matches(ifMatch, ETags.version(candidato.getVersion()))) {
+            throw new PreconditionFailedException("El candidato con ID " + candidato.getId() + " fue modificado");
+        }
+    }
+
+    /**
+     * Obtiene un candidato con sus adjuntos asociados.
+     * La consulta a la base de datos y la de adjuntos se lanzan a la vez y comparten un mismo plazo
+     * ({@code candidatos.detalle.timeout}). La de adjuntos se agrupa con las de otras peticiones concurrentes
+     * en una sola llamada al servicio de adjuntos ({@link AdjuntoBatchLoader}). Si el candidato no existe,
+     * se deja de esperar a los adjuntos y se devuelve vacío. Si los adjuntos no llegan a tiempo o
+     * adjunto-service no está disponible, se devuelve el candidato con los adjuntos marcados como no disponibles.
      */
     public Optional<CandidatoConAdjuntosDTO> findByIdWithAdjuntos(Integer id) {
-        return candidatoRepository.findById(id).map(candidato -> {
-            CandidatoConAdjuntosDTO dto = modelMapper.map(candidato, CandidatoConAdjuntosDTO.class);
-            
+        Future<Optional<Candidato>> candidatoTask = virtualThreadExecutor.submit(() -> candidatoRepository.findById(id));
+        Future<Optional<List<AdjuntoDTO>>> adjuntosTask = adjuntoBatchLoader.load(id);
+        long deadline = System.nanoTime() + detalleTimeout.toNanos();
+
+        try {
+            Optional<Candidato> candidato = await(candidatoTask, deadline);
+            if (candidato.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<List<AdjuntoDTO>> adjuntos;
             try {
-                List<AdjuntoDTO> adjuntos = adjuntoFeignClient.getAdjuntosByCandidatoId(id);
-                dto.setAdjuntos(adjuntos);
-            } catch (FeignException.NotFound error) {
-                dto.setAdjuntos(new ArrayList<>());
+                adjuntos = await(adjuntosTask, deadline);
+            } catch (TimeoutException e) {
+                adjuntos = Optional.empty();
             }
-            
-            return dto;
-        });
+            return Optional.of(adjuntos
+                .map(lista -> candidatoMapper.toConAdjuntosDTO(candidato.get(), lista))
+                .orElseGet(() -> candidatoMapper.toConAdjuntosNoDisponiblesDTO(candidato.get())));
+        } catch (TimeoutException e) {
+            throw new GatewayTimeoutException("Tiempo de espera agotado al obtener el candidato con ID " + id);
+        } finally {
+            // No hace nada si las tareas ya terminaron
+            candidatoTask.cancel(true);
+            adjuntosTask.cancel(true);
+        }
     }
 
     /**
-     * Obtiene todos los candidatos con sus adjuntos.
+     * Espera el resultado de la tarea hasta el plazo indicado y propaga sus excepciones sin envolver.
      */
-    public List<CandidatoConAdjuntosDTO> findAllWithAdjuntos() {
-        List<Candidato> candidatos = candidatoRepository.findAll();
-        
-        // Obtener TODOS los adjuntos en una sola llamada
-        List<AdjuntoDTO> todosLosAdjuntos;
+    private static <T> T await(Future<T> task, long deadlineNanos) throws TimeoutException {
         try {
-            todosLosAdjuntos = adjuntoFeignClient.getAllAdjuntos();
-        } catch (FeignException.NotFound e) {
-            // Si no hay adjuntos, usar lista vacía
-            todosLosAdjuntos = new ArrayList<>();
+            return task.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
         }
-        
-        // Agrupar adjuntos por candidatoId
-        Map<Integer, List<AdjuntoDTO>> adjuntosPorCandidato = todosLosAdjuntos.stream()
-            .collect(Collectors.groupingBy(AdjuntoDTO::getCandidatoId));
-        
-        // Mapear candidatos con sus adjuntos
-        return candidatos.stream()
-            .map(candidato -> {
-                CandidatoConAdjuntosDTO dto = modelMapper.map(candidato, CandidatoConAdjuntosDTO.class);
-                
-                // Obtener adjuntos del mapa (o lista vacía si no tiene)
-                List<AdjuntoDTO> adjuntos = adjuntosPorCandidato.getOrDefault(
-                    candidato.getId(), 
-                    new ArrayList<>()
-                );
-                dto.setAdjuntos(adjuntos);
-                
-                return dto;
-            })
-            .collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene todos los candidatos con sus adjuntos.
+     * Recorre los candidatos por bloques y, por cada bloque, pide al servicio de adjuntos
+     * solo los adjuntos de esos candidatos en una única llamada. Si esa llamada no es posible, los candidatos
+     * del bloque se devuelven con los adjuntos marcados como no disponibles.
+     * Sin transacción: cada bloque se lee en la suya, de solo lectura (y de una réplica si las hay), y no se
+     * retiene una conexión mientras se espera al servicio de adjuntos.
+     */
+    public List<CandidatoConAdjuntosDTO> findAllWithAdjuntos() {
+        List<CandidatoConAdjuntosDTO> result = new ArrayList<>();
+        Sort sort = CandidatoSort.ID.toSort(Sort.Direction.ASC);
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Candidato> window;
+        do {
+            window = candidatoRepository.findAllBy(position, sort, Limit.of(ADJUNTOS_BATCH_SIZE));
+            if (window.isEmpty()) {
+                break;
+            }
+
+            List<Integer> ids = window.stream().map(Candidato::getId).collect(Collectors.toList());
+            Optional<Map<Integer, List<AdjuntoDTO>>> adjuntosPorCandidato = adjuntoClient.getAdjuntosByCandidatoIds(ids);
+
+            mapearBloque(window.getContent(), adjuntosPorCandidato, result);
+            position = window.positionAt(window.size() - 1);
+        } while (window.hasNext());
+
+        return result;
+    }
+
+    /**
+     * Asigna a cada candidato del bloque sus adjuntos y lo convierte a DTO. Es un span {@code candidatos.mapeo}
+     * en la traza de la petición, para separar este tiempo del de la consulta y el de la llamada a adjuntos.
+     */
+    private void mapearBloque(List<Candidato> candidatos, Optional<Map<Integer, List<AdjuntoDTO>>> adjuntosPorCandidato,
+            List<CandidatoConAdjuntosDTO> result) {
+        Observation.createNotStarted("candidatos.mapeo", observationRegistry)
+            .contextualName("mapear candidatos con adjuntos")
+            .highCardinalityKeyValue("candidatos", String.valueOf(candidatos.size()))
+            .observe(() -> result.addAll(candidatoMapper.toConAdjuntosDTOs(candidatos, adjuntosPorCandidato)));
     }
 }
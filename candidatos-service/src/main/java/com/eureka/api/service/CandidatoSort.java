@@ -0,0 +1,65 @@
+package com.eureka.api.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+
+import com.eureka.api.exception.BadRequestException;
+import com.eureka.api.model.Candidato;
+
+/**
+ * Columnas indexadas por las que se puede ordenar el listado paginado de candidatos.
+ * Todas se combinan con el ID como desempate para que el orden sea total.
+ */
+public enum CandidatoSort {
+    ID("id", Candidato::getId, raw -> null),
+    APELLIDOS("apellidos", Candidato::getApellidos, raw -> raw),
+    DISPONIBILIDAD_DESDE("disponibilidadDesde", Candidato::getDisponibilidadDesde, LocalDate::parse);
+
+    private final String property;
+    private final Function<Candidato, Object> extractor;
+    private final Function<String, Object> parser;
+
+    CandidatoSort(String property, Function<Candidato, Object> extractor, Function<String, Object> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static CandidatoSort fromProperty(String property) {
+        for (CandidatoSort sort : values()) {
+            if (sort.property.equals(property)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException("No se puede ordenar por el campo " + property);
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        if (this == ID) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Valor de la columna de orden para el candidato dado (null cuando se ordena solo por ID).
+     */
+    Object keyOf(Candidato candidato) {
+        return this == ID ? null : extractor.apply(candidato);
+    }
+
+    Object parseKey(String raw) {
+        try {
+            return parser.apply(raw);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.eureka.api.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eureka.api.model.Candidato;
+import com.eureka.api.repository.CandidatoRepository;
+import com.eureka.common.replicas.LecturaTrasEscritura;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Índice en memoria de los periodos de disponibilidad de los candidatos ({@link IntervalTreap} por día).
+ * Se carga al arrancar y se actualiza con cada {@link CandidatoCambioEvent}; hasta que termina la carga
+ * las consultas deben resolverse contra la base de datos.
+ */
+@Component
+public class DisponibilidadIndex {
+    private static final int LOTE_RECARGA = 1000;
+
+    private final CandidatoRepository candidatoRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate recargaTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Serializa los cambios: cada uno relee y aplica sin que otro más antiguo se aplique después. */
+    private final ReentrantLock recarga = new ReentrantLock();
+    private final IntervalTreap arbol = new IntervalTreap();
+    /** Inicio (día epoch) del periodo indexado de cada candidato, para poder retirarlo. */
+    private final Map<Integer, Integer> inicioPorCandidato = new HashMap<>();
+    private volatile boolean cargado;
+
+    public DisponibilidadIndex(
+            CandidatoRepository candidatoRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.candidatoRepository = candidatoRepository;
+        this.entityManager = entityManager;
+        this.recargaTemplate = new TransactionTemplate(transactionManager);
+        this.recargaTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.recargaTemplate.setReadOnly(true);
+    }
+
+    public boolean isCargado() {
+        return cargado;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void cargar() {
+        lock.writeLock().lock();
+        try {
+            arbol.limpiar();
+            inicioPorCandidato.clear();
+            try (Stream<Candidato> candidatos = candidatoRepository.streamAllBy()) {
+                candidatos.forEach(candidato -> {
+                    agregar(candidato);
+                    entityManager.detach(candidato);
+                });
+            }
+            cargado = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Relee los candidatos modificados en una transacción nueva y los vuelve a indexar, todo con
+     * {@code recarga} tomado para que los cambios se apliquen en el orden en que se leen. La relectura
+     * va al primario: las réplicas pueden no tener aún el cambio.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCambio(CandidatoCambioEvent event) {
+        List<Integer> ids = event.candidatoIds();
+        recarga.lock();
+        try {
+            for (int i = 0; i < ids.size(); i += LOTE_RECARGA) {
+                List<Integer> lote = ids.subList(i, Math.min(i + LOTE_RECARGA, ids.size()));
+                List<Candidato> candidatos = LecturaTrasEscritura.enPrimario(
+                    () -> recargaTemplate.execute(status -> candidatoRepository.findAllById(lote)));
+                lock.writeLock().lock();
+                try {
+                    lote.forEach(this::quitar);
+                    candidatos.forEach(this::agregar);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            recarga.unlock();
+        }
+    }
+
+    /**
+     * IDs de los candidatos disponibles en algún día de [desde, hasta], ordenados por inicio de
+     * disponibilidad e ID, a partir de la posición indicada (o desde el principio si es null).
+     */
+    public List<Integer> disponibles(LocalDate desde, LocalDate hasta, LocalDate despuesDeInicio, Integer despuesDeId,
+            int limite) {
+        List<Integer> resultado = new ArrayList<>(limite);
+        lock.readLock().lock();
+        try {
+            arbol.solapados(
+                dia(desde),
+                dia(hasta),
+                despuesDeInicio != null ? dia(despuesDeInicio) : Integer.MIN_VALUE,
+                despuesDeId != null ? despuesDeId : Integer.MIN_VALUE,
+                limite,
+                resultado);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return resultado;
+    }
+
+    private void agregar(Candidato candidato) {
+        int inicio = dia(candidato.getDisponibilidadDesde());
+        arbol.insertar(inicio, dia(candidato.getDisponibilidadHasta()), candidato.getId());
+        inicioPorCandidato.put(candidato.getId(), inicio);
+    }
+
+    private void quitar(Integer id) {
+        Integer inicio = inicioPorCandidato.remove(id);
+        if (inicio != null) {
+            arbol.eliminar(inicio, id);
+        }
+    }
+
+    private static int dia(LocalDate fecha) {
+        return Math.toIntExact(fecha.toEpochDay());
+    }
+}
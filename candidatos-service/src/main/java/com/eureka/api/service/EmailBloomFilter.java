@@ -0,0 +1,155 @@
+package com.eureka.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.api.repository.CandidatoRepository;
+
+/**
+ * Filtro de Bloom con los emails de candidatos conocidos por esta instancia.
+ * Si responde que un email no está, es seguro que no estaba al cargar el filtro ni se ha escrito desde
+ * esta instancia, y se puede omitir la consulta {@code existsByEmail}. Los falsos negativos posibles
+ * (emails creados por otra instancia o durante una recarga) los resuelve la restricción UNIQUE de la tabla.
+ * Las eliminaciones y cambios de email dejan bits obsoletos, por lo que el filtro se reconstruye periódicamente.
+ */
+@Component
+public class EmailBloomFilter {
+    private final CandidatoRepository candidatoRepository;
+    private final boolean habilitado;
+    private final long capacidadEsperada;
+    private final double probabilidadFalsoPositivo;
+
+    /** Filtro en uso; null hasta la primera carga, en cuyo caso se responde siempre que el email puede existir. */
+    private volatile Bits actual;
+    /** Filtro que se está cargando; recibe también las altas mientras dura la recarga. */
+    private volatile Bits siguiente;
+
+    public EmailBloomFilter(
+            CandidatoRepository candidatoRepository,
+            @Value("${candidatos.email-filter.enabled:true}") boolean habilitado,
+            @Value("${candidatos.email-filter.capacidad-esperada:100000}") long capacidadEsperada,
+            @Value("${candidatos.email-filter.probabilidad-falso-positivo:0.01}") double probabilidadFalsoPositivo) {
+        this.candidatoRepository = candidatoRepository;
+        this.habilitado = habilitado;
+        this.capacidadEsperada = capacidadEsperada;
+        this.probabilidadFalsoPositivo = probabilidadFalsoPositivo;
+    }
+
+    public boolean mightContain(String email) {
+        Bits bits = actual;
+        return !habilitado || bits == null || bits.contains(hash(email));
+    }
+
+    public void put(String email) {
+        if (!habilitado) {
+            return;
+        }
+        long hash = hash(email);
+        // Se lee primero el filtro en carga: si ya es null, la recarga terminó y actual es el nuevo filtro
+        Bits enCarga = siguiente;
+        Bits bits = actual;
+        if (enCarga != null) {
+            enCarga.put(hash);
+        }
+        if (bits != null) {
+            bits.put(hash);
+        }
+    }
+
+    /**
+     * Carga el filtro con todos los emails de la base de datos al arrancar y lo reconstruye cada
+     * {@code candidatos.email-filter.reconstruccion} ms, dimensionándolo según el número de candidatos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        initialDelayString = "${candidatos.email-filter.reconstruccion:21600000}",
+        fixedDelayString = "${candidatos.email-filter.reconstruccion:21600000}")
+    @Transactional(readOnly = true)
+    public void cargar() {
+        if (!habilitado) {
+            return;
+        }
+        Bits bits = new Bits(Math.max(capacidadEsperada, candidatoRepository.count() * 2), probabilidadFalsoPositivo);
+        siguiente = bits;
+        try (Stream<String> emails = candidatoRepository.streamAllEmails()) {
+            emails.forEach(email -> bits.put(hash(email)));
+        }
+        actual = bits;
+        siguiente = null;
+    }
+
+    /**
+     * Hash de 64 bits (FNV-1a con mezcla final) del email normalizado; la columna usa una collation
+     * que no distingue mayúsculas.
+     */
+    static long hash(String email) {
+        byte[] bytes = email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * Array de bits seguro entre hilos. Las k posiciones se obtienen por doble hashing.
+     */
+    static final class Bits {
+        private final AtomicLongArray words;
+        private final long numBits;
+        private final int numHashes;
+
+        Bits(long capacidad, double probabilidadFalsoPositivo) {
+            long bitsOptimos = (long) Math.ceil(-capacidad * Math.log(probabilidadFalsoPositivo) / (Math.log(2) * Math.log(2)));
+            int numWords = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bitsOptimos + 63) / 64));
+            this.words = new AtomicLongArray(numWords);
+            this.numBits = (long) numWords * 64;
+            this.numHashes = (int) Math.max(1, Math.round((double) numBits / capacidad * Math.log(2)));
+        }
+
+        void put(long hash) {
+            long h1 = hash;
+            long h2 = mix(hash) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, numBits);
+                long mask = 1L << bit;
+                int index = (int) (bit >>> 6);
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+        }
+
+        boolean contains(long hash) {
+            long h1 = hash;
+            long h2 = mix(hash) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, numBits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.eureka.api.service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Árbol de intervalos implementado como treap ordenado por (inicio, id). Cada nodo guarda el mayor
+ * fin de su subárbol, lo que permite descartar ramas enteras en las consultas de solapamiento.
+ * Inserción y borrado en O(log n) esperado; una consulta cuesta O(log n + k) por cada resultado devuelto.
+ * No es seguro entre hilos.
+ */
+class IntervalTreap {
+
+    private static final class Nodo {
+        final int inicio;
+        final int fin;
+        final int id;
+        final int prioridad = ThreadLocalRandom.current().nextInt();
+        int maxFin;
+        Nodo izquierdo;
+        Nodo derecho;
+
+        Nodo(int inicio, int fin, int id) {
+            this.inicio = inicio;
+            this.fin = fin;
+            this.id = id;
+            this.maxFin = fin;
+        }
+    }
+
+    private Nodo raiz;
+
+    void insertar(int inicio, int fin, int id) {
+        raiz = insertar(raiz, new Nodo(inicio, fin, id));
+    }
+
+    void eliminar(int inicio, int id) {
+        raiz = eliminar(raiz, inicio, id);
+    }
+
+    void limpiar() {
+        raiz = null;
+    }
+
+    /**
+     * Añade a {@code resultado}, en orden de (inicio, id), los IDs de los intervalos que se solapan con
+     * [desde, hasta] y cuya clave es posterior a (despuesDeInicio, despuesDeId), hasta tener {@code limite}.
+     * Sin posición de partida se pasa {@code despuesDeInicio = Integer.MIN_VALUE}.
+     */
+    void solapados(int desde, int hasta, int despuesDeInicio, int despuesDeId, int limite, List<Integer> resultado) {
+        solapados(raiz, desde, hasta, despuesDeInicio, despuesDeId, limite, resultado);
+    }
+
+    private static void solapados(Nodo nodo, int desde, int hasta, int despuesDeInicio, int despuesDeId,
+            int limite, List<Integer> resultado) {
+        if (nodo == null || resultado.size() >= limite || nodo.maxFin < desde) {
+            return;
+        }
+        boolean posterior = comparar(nodo.inicio, nodo.id, despuesDeInicio, despuesDeId) > 0;
+        // Todo el subárbol izquierdo es anterior al nodo: si el nodo no es posterior, tampoco lo es el subárbol
+        if (posterior) {
+            solapados(nodo.izquierdo, desde, hasta, despuesDeInicio, despuesDeId, limite, resultado);
+        }
+        // El nodo y su subárbol derecho empiezan después de la ventana
+        if (resultado.size() >= limite || nodo.inicio > hasta) {
+            return;
+        }
+        if (posterior && nodo.fin >= desde) {
+            resultado.add(nodo.id);
+        }
+        solapados(nodo.derecho, desde, hasta, despuesDeInicio, despuesDeId, limite, resultado);
+    }
+
+    private static Nodo insertar(Nodo nodo, Nodo nuevo) {
+        if (nodo == null) {
+            return nuevo;
+        }
+        if (comparar(nuevo.inicio, nuevo.id, nodo.inicio, nodo.id) < 0) {
+            nodo.izquierdo = insertar(nodo.izquierdo, nuevo);
+            if (nodo.izquierdo.prioridad > nodo.prioridad) {
+                nodo = rotarDerecha(nodo);
+            }
+        } else {
+            nodo.derecho = insertar(nodo.derecho, nuevo);
+            if (nodo.derecho.prioridad > nodo.prioridad) {
+                nodo = rotarIzquierda(nodo);
+            }
+        }
+        actualizar(nodo);
+        return nodo;
+    }
+
+    private static Nodo eliminar(Nodo nodo, int inicio, int id) {
+        if (nodo == null) {
+            return null;
+        }
+        int comparacion = comparar(inicio, id, nodo.inicio, nodo.id);
+        if (comparacion < 0) {
+            nodo.izquierdo = eliminar(nodo.izquierdo, inicio, id);
+        } else if (comparacion > 0) {
+            nodo.derecho = eliminar(nodo.derecho, inicio, id);
+        } else {
+            return unir(nodo.izquierdo, nodo.derecho);
+        }
+        actualizar(nodo);
+        return nodo;
+    }
+
+    /**
+     * Une dos subárboles donde todas las claves de {@code izquierdo} son menores que las de {@code derecho}.
+     */
+    private static Nodo unir(Nodo izquierdo, Nodo derecho) {
+        if (izquierdo == null) {
+            return derecho;
+        }
+        if (derecho == null) {
+            return izquierdo;
+        }
+        if (izquierdo.prioridad > derecho.prioridad) {
+            izquierdo.derecho = unir(izquierdo.derecho, derecho);
+            actualizar(izquierdo);
+            return izquierdo;
+        }
+        derecho.izquierdo = unir(izquierdo, derecho.izquierdo);
+        actualizar(derecho);
+        return derecho;
+    }
+
+    private static Nodo rotarDerecha(Nodo nodo) {
+        Nodo izquierdo = nodo.izquierdo;
+        nodo.izquierdo = izquierdo.derecho;
+        izquierdo.derecho = nodo;
+        actualizar(nodo);
+        actualizar(izquierdo);
+        return izquierdo;
+    }
+
+    private static Nodo rotarIzquierda(Nodo nodo) {
+        Nodo derecho = nodo.derecho;
+        nodo.derecho = derecho.izquierdo;
+        derecho.izquierdo = nodo;
+        actualizar(nodo);
+        actualizar(derecho);
+        return derecho;
+    }
+
+    private static void actualizar(Nodo nodo) {
+        int maxFin = nodo.fin;
+        if (nodo.izquierdo != null) {
+            maxFin = Math.max(maxFin, nodo.izquierdo.maxFin);
+        }
+        if (nodo.derecho != null) {
+            maxFin = Math.max(maxFin, nodo.derecho.maxFin);
+        }
+        nodo.maxFin = maxFin;
+    }
+
+    private static int comparar(int inicioA, int idA, int inicioB, int idB) {
+        int comparacion = Integer.compare(inicioA, inicioB);
+        return comparacion != 0 ? comparacion : Integer.compare(idA, idB);
+    }
+}
@@ -0,0 +1,131 @@
+package com.eureka.api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eureka.api.clients.AdjuntoClient;
+import com.eureka.api.model.OutboxEvento;
+import com.eureka.api.model.TipoEvento;
+import com.eureka.api.repository.OutboxEventoRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Outbox transaccional para los efectos de un cambio en otros servicios. El evento se inserta en la tabla
+ * {@code outbox_eventos} dentro de la transacción del cambio, así que se confirma o se descarta con él, y la
+ * petición no espera a adjunto-service. Cada instancia envía periódicamente los eventos pendientes por lotes.
+ *
+ * Un lote se reserva con {@code FOR UPDATE SKIP LOCKED}, aplazando su {@code proximoIntento} durante
+ * {@code candidatos.outbox.reserva}, y se envía fuera de la transacción. Si una instancia cae tras reservar,
+ * otra lo reintenta al vencer la reserva. Los envíos fallidos se reintentan con espera exponencial, sin límite
+ * de intentos, por lo que el receptor debe ser idempotente.
+ */
+@Service
+public class OutboxService {
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final AdjuntoClient adjuntoClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoLote;
+    private final Duration reserva;
+    private final Duration reintentoInicial;
+    private final Duration reintentoMaximo;
+
+    private final Counter enviados;
+    private final Counter fallidos;
+
+    public OutboxService(
+            OutboxEventoRepository outboxEventoRepository,
+            AdjuntoClient adjuntoClient,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${candidatos.outbox.lote:100}") int tamanoLote,
+            @Value("${candidatos.outbox.reserva:30s}") Duration reserva,
+            @Value("${candidatos.outbox.reintento-inicial:1s}") Duration reintentoInicial,
+            @Value("${candidatos.outbox.reintento-maximo:10m}") Duration reintentoMaximo) {
+        this.outboxEventoRepository = outboxEventoRepository;
+        this.adjuntoClient = adjuntoClient;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanoLote = tamanoLote;
+        this.reserva = reserva;
+        this.reintentoInicial = reintentoInicial;
+        this.reintentoMaximo = reintentoMaximo;
+        this.enviados = Counter.builder("candidatos.outbox.enviados")
+            .description("Eventos del outbox enviados con éxito")
+            .register(meterRegistry);
+        this.fallidos = Counter.builder("candidatos.outbox.fallidos")
+            .description("Envíos de eventos del outbox fallidos que se reintentarán")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Registra un evento para enviarlo cuando se confirme la transacción actual.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Integer candidatoId, TipoEvento tipo) {
+        LocalDateTime ahora = LocalDateTime.now();
+        OutboxEvento evento = new OutboxEvento();
+        evento.setTipo(tipo);
+        evento.setCandidatoId(candidatoId);
+        evento.setFechaCreacion(ahora);
+        evento.setProximoIntento(ahora);
+        outboxEventoRepository.save(evento);
+    }
+
+    /**
+     * Envía los eventos pendientes, lote a lote mientras los lotes salgan completos.
+     */
+    @Scheduled(fixedDelayString = "${candidatos.outbox.intervalo:1000}")
+    public void enviarPendientes() {
+        List<OutboxEvento> lote;
+        do {
+            lote = reservar();
+            lote.forEach(this::enviar);
+        } while (lote.size() == tamanoLote);
+    }
+
+    private List<OutboxEvento> reservar() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime ahora = LocalDateTime.now();
+            List<OutboxEvento> lote = outboxEventoRepository
+                .findByProximoIntentoLessThanEqualOrderByIdAsc(ahora, Limit.of(tamanoLote));
+            lote.forEach(evento -> evento.setProximoIntento(ahora.plus(reserva)));
+            return lote;
+        });
+    }
+
+    private void enviar(OutboxEvento evento) {
+        boolean enviado = switch (evento.getTipo()) {
+            case CANDIDATO_ELIMINADO -> adjuntoClient.deleteAdjuntosByCandidatoId(evento.getCandidatoId());
+        };
+        if (enviado) {
+            outboxEventoRepository.deleteById(evento.getId());
+            enviados.increment();
+            return;
+        }
+        int intentos = evento.getIntentos() + 1;
+        outboxEventoRepository.aplazar(evento.getId(), intentos, LocalDateTime.now().plus(espera(intentos)));
+        fallidos.increment();
+    }
+
+    /**
+     * Espera exponencial desde {@code reintento-inicial} hasta {@code reintento-maximo}, con un reparto aleatorio
+     * entre la mitad y el total para que los eventos que fallaron juntos no se reintenten juntos.
+     */
+    private Duration espera(int intentos) {
+        long maximo = reintentoMaximo.toMillis();
+        long exponencial = reintentoInicial.toMillis() << Math.min(intentos - 1, 30);
+        long espera = exponencial <= 0 ? maximo : Math.min(exponencial, maximo);
+        return Duration.ofMillis(espera / 2 + ThreadLocalRandom.current().nextLong(espera / 2 + 1));
+    }
+}
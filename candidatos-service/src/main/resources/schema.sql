@@ -18,14 +18,96 @@ CREATE TABLE IF NOT EXISTS candidatos (
     pais VARCHAR(50) NOT NULL,
     localizacion VARCHAR(150) NOT NULL,
     disponibilidad_desde DATE NOT NULL,
-    disponibilidad_hasta DATE NOT NULL
+    disponibilidad_hasta DATE NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    INDEX idx_candidatos_apellidos (apellidos, id),
+    INDEX idx_candidatos_disponibilidad_desde (disponibilidad_desde, id),
+    INDEX idx_candidatos_disponibilidad (disponibilidad_desde, disponibilidad_hasta)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
--- Table annexes
+-- Table candidate change log (coherencia de caché entre instancias)
+CREATE TABLE IF NOT EXISTS candidatos_cambios (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    candidato_id INT NOT NULL,
+    tipo VARCHAR(15) NOT NULL,
+    origen VARCHAR(100) NOT NULL,
+    fecha_cambio DATETIME(6) NOT NULL,
+    INDEX idx_candidatos_cambios_fecha (fecha_cambio)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Table outbox (eventos para otros servicios, p. ej. eliminar los adjuntos de un candidato eliminado)
+CREATE TABLE IF NOT EXISTS outbox_eventos (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tipo VARCHAR(30) NOT NULL,
+    candidato_id INT NOT NULL,
+    intentos INT NOT NULL,
+    fecha_creacion DATETIME(6) NOT NULL,
+    proximo_intento DATETIME(6) NOT NULL,
+    INDEX idx_outbox_eventos_proximo_intento (proximo_intento, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Table annexes (sin clave foránea: los adjuntos de un candidato eliminado los borra adjunto-service vía outbox)
 CREATE TABLE IF NOT EXISTS adjuntos (
     id INT AUTO_INCREMENT PRIMARY KEY,
     extension VARCHAR(5) NOT NULL,
     nombre_archivo VARCHAR(255) NOT NULL,
-    candidato_id INT,
-    CONSTRAINT fk_candidato FOREIGN KEY (candidato_id) REFERENCES candidatos(id) ON DELETE CASCADE
+    candidato_id INT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    INDEX idx_adjuntos_candidato_id (candidato_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Migración de bases de datos creadas con versiones anteriores de este script: CREATE TABLE IF NOT EXISTS no
+-- modifica las tablas que ya existen. Cada paso comprueba information_schema y solo se ejecuta si hace falta,
+-- así que el script entero puede volver a lanzarse sobre cualquier versión (MySQL 8.0 no tiene ADD COLUMN IF NOT EXISTS)
+SET @migracion = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE candidatos ADD COLUMN version BIGINT NOT NULL DEFAULT 0', 'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'candidatos' AND column_name = 'version');
+PREPARE migracion FROM @migracion;
+EXECUTE migracion;
+DEALLOCATE PREPARE migracion;
+
+SET @migracion = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE adjuntos ADD COLUMN version BIGINT NOT NULL DEFAULT 0', 'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'adjuntos' AND column_name = 'version');
+PREPARE migracion FROM @migracion;
+EXECUTE migracion;
+DEALLOCATE PREPARE migracion;
+
+SET @migracion = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_candidatos_apellidos ON candidatos (apellidos, id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'candidatos' AND index_name = 'idx_candidatos_apellidos');
+PREPARE migracion FROM @migracion;
+EXECUTE migracion;
+DEALLOCATE PREPARE migracion;
+
+SET @migracion = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_candidatos_disponibilidad_desde ON candidatos (disponibilidad_desde, id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'candidatos' AND index_name = 'idx_candidatos_disponibilidad_desde');
+PREPARE migracion FROM @migracion;
+EXECUTE migracion;
+DEALLOCATE PREPARE migracion;
+
+SET @migracion = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_candidatos_disponibilidad ON candidatos (disponibilidad_desde, disponibilidad_hasta)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'candidatos' AND index_name = 'idx_candidatos_disponibilidad');
+PREPARE migracion FROM @migracion;
+EXECUTE migracion;
+DEALLOCATE PREPARE migracion;
+
+-- La clave foránea de adjuntos ya no existe: los adjuntos de un candidato eliminado se borran vía outbox
+SET @migracion = (SELECT IF(COUNT(*) = 0, 'DO 0', 'ALTER TABLE adjuntos DROP FOREIGN KEY fk_candidato')
+    FROM information_schema.table_constraints
+    WHERE table_schema = DATABASE() AND table_name = 'adjuntos' AND constraint_name = 'fk_candidato'
+        AND constraint_type = 'FOREIGN KEY');
+PREPARE migracion FROM @migracion;
+EXECUTE migracion;
+DEALLOCATE PREPARE migracion;
+
+SET @migracion = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_adjuntos_candidato_id ON adjuntos (candidato_id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'adjuntos' AND index_name = 'idx_adjuntos_candidato_id');
+PREPARE migracion FROM @migracion;
+EXECUTE migracion;
+DEALLOCATE PREPARE migracion;
@@ -3,20 +3,32 @@ package com.eureka.api.config;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.eureka.api.fixtures.CandidatoFixture;
 import com.eureka.api.repository.CandidatoRepository;
+import com.eureka.api.repository.OutboxEventoRepository;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
 import io.restassured.RestAssured;
 
 /**
- * Clase base para tests de integración.
+ * Clase base para tests de integración. Con métricas y trazas, que los tests desactivan por defecto, para probar
+ * /actuator/prometheus y los spans (que se guardan en memoria).
  */
+@AutoConfigureObservability
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
+@Import(BaseConfig.TracingTestConfig.class)
 public abstract class BaseConfig {
     @LocalServerPort
     protected Integer port;
@@ -24,9 +36,18 @@ public abstract class BaseConfig {
     @Autowired
     protected CandidatoRepository candidatoRepository;
 
+    @Autowired
+    protected OutboxEventoRepository outboxEventoRepository;
+
     @Autowired
     protected CandidatoFixture candidateFixture;
 
+    @Autowired
+    protected CacheManager cacheManager;
+
+    @Autowired
+    protected CircuitBreakerRegistry circuitBreakerRegistry;
+
     protected static final String BASE_PATH = "/api/v1/candidatos";
 
     @BeforeEach
@@ -38,12 +59,24 @@ public abstract class BaseConfig {
 
     @BeforeEach
     void cleanDatabase() {
-        // Limpiar la base de datos antes de cada test
+        // Limpiar la base de datos, la caché y el estado de los circuit breakers antes de cada test
         candidatoRepository.deleteAll();
+        outboxEventoRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
     }
 
     @AfterEach
     void tearDown() {
         RestAssured.reset();
     }
-}
\ No newline at end of file
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class TracingTestConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
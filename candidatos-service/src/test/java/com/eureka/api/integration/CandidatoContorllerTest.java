@@ -2,13 +2,23 @@ package com.eureka.api.integration;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -16,8 +26,13 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import com.eureka.api.config.BaseConfig;
 import com.eureka.api.dto.CandidatoDTO;
 import com.eureka.api.model.Candidato;
+import com.eureka.api.model.CandidatoCambio;
+import com.eureka.api.model.TipoCambio;
+import com.eureka.api.repository.CandidatoCambioRepository;
+import com.eureka.api.service.CandidatoCambioService;
 
 import io.restassured.http.ContentType;
+import jakarta.persistence.EntityManagerFactory;
 
 @Testcontainers
 public class CandidatoContorllerTest extends BaseConfig {
@@ -26,6 +41,18 @@ public class CandidatoContorllerTest extends BaseConfig {
     @ServiceConnection
     protected static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
 
+    @Autowired
+    private CandidatoCambioRepository candidatoCambioRepository;
+
+    @Autowired
+    private CandidatoCambioService candidatoCambioService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     /**
      * Test: Crear un candidato exitosamente
      */
@@ -105,6 +132,44 @@ public class CandidatoContorllerTest extends BaseConfig {
         assertThat(candidatoRepository.count()).isEqualTo(1);
     }
 
+    /**
+     * Test: Email duplicado creado a través de la API y cambio de email a uno existente
+     */
+    @Test
+    @DisplayName("POST/PUT /api/v1/candidatos - Email ya registrado por la API retorna 409 CONFLICT")
+    void testCreateAndUpdateCandidate_DuplicatedEmailThroughApi() {
+        CandidatoDTO candidateDTO = candidateFixture.createValidCandidateDTO();
+        given()
+            .contentType(ContentType.JSON)
+            .body(candidateDTO)
+        .when()
+            .post(BASE_PATH)
+        .then()
+            .statusCode(201);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(candidateDTO)
+        .when()
+            .post(BASE_PATH)
+        .then()
+            .statusCode(409)
+            .body("message", equalTo("Email existente"));
+
+        // Cambiar el email de otro candidato al ya registrado
+        Candidato otherCandidate = candidateFixture.createAndSaveCandidate("otro@test.com");
+        given()
+            .contentType(ContentType.JSON)
+            .body(candidateDTO)
+        .when()
+            .put(BASE_PATH + "/{id}", otherCandidate.getId())
+        .then()
+            .statusCode(409)
+            .body("message", equalTo("Email existente"));
+
+        assertThat(candidatoRepository.count()).isEqualTo(2);
+    }
+
     /**
      * Test: Validaciones de campos obligatorios
      */
@@ -166,6 +231,113 @@ public class CandidatoContorllerTest extends BaseConfig {
             .body("message", equalTo("No se encontraron candidatos"));
     }
 
+    /**
+     * Test: Recorrer el listado paginado por cursor
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/pagina - Recorrer páginas con el cursor next")
+    void testGetCandidatesPage_FollowsCursor() {
+        // Arrange: Crear 3 candidatos
+        Candidato first = candidateFixture.createAndSaveCandidate("pagina1@test.com");
+        Candidato second = candidateFixture.createAndSaveCandidate("pagina2@test.com");
+        Candidato third = candidateFixture.createAndSaveCandidate("pagina3@test.com");
+
+        // Act & Assert: Primera página
+        String next = given()
+            .contentType(ContentType.JSON)
+            .queryParam("size", 2)
+        .when()
+            .get(BASE_PATH + "/pagina")
+        .then()
+            .statusCode(200)
+            .body("contenido.size()", equalTo(2))
+            .body("contenido[0].id", equalTo(first.getId()))
+            .body("contenido[1].id", equalTo(second.getId()))
+            .body("next", notNullValue())
+            .extract().path("next");
+
+        // Act & Assert: Segunda y última página
+        given()
+            .contentType(ContentType.JSON)
+            .queryParam("cursor", next)
+            .queryParam("size", 2)
+        .when()
+            .get(BASE_PATH + "/pagina")
+        .then()
+            .statusCode(200)
+            .body("contenido.size()", equalTo(1))
+            .body("contenido[0].id", equalTo(third.getId()))
+            .body("next", nullValue());
+    }
+
+    /**
+     * Test: Ordenar por un campo no permitido
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/pagina - Campo de orden inválido retorna 400")
+    void testGetCandidatesPage_InvalidSort() {
+        given()
+            .contentType(ContentType.JSON)
+            .queryParam("sort", "email")
+        .when()
+            .get(BASE_PATH + "/pagina")
+        .then()
+            .statusCode(400)
+            .body("message", equalTo("No se puede ordenar por el campo email"));
+    }
+
+    /**
+     * Test: Exportar candidatos en NDJSON y CSV
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/export - Exportación en streaming NDJSON y CSV")
+    void testExportCandidates() {
+        // Arrange
+        candidateFixture.createAndSaveCandidate("export1@test.com");
+        candidateFixture.createAndSaveCandidate("export2@test.com");
+
+        // Act & Assert: NDJSON, un candidato por línea
+        String ndjson = given()
+        .when()
+            .get(BASE_PATH + "/export")
+        .then()
+            .statusCode(200)
+            .contentType(containsString("application/x-ndjson"))
+            .extract().asString();
+        assertThat(ndjson.split("\n")).hasSize(2);
+        assertThat(ndjson).endsWith("}\n");
+        assertThat(ndjson).contains("\"email\":\"export1@test.com\"");
+
+        // Act & Assert: CSV con cabecera
+        String csv = given()
+            .queryParam("formato", "csv")
+        .when()
+            .get(BASE_PATH + "/export")
+        .then()
+            .statusCode(200)
+            .contentType(containsString("text/csv"))
+            .extract().asString();
+        assertThat(csv.split("\r\n")).hasSize(3);
+        assertThat(csv).startsWith("id,nombre,apellidos,email");
+    }
+
+    /**
+     * Test: Exportar en NDJSON sin candidatos devuelve un cuerpo vacío
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/export - NDJSON vacío sin candidatos")
+    void testExportCandidates_Empty() {
+        // Act & Assert
+        String ndjson = given()
+        .when()
+            .get(BASE_PATH + "/export")
+        .then()
+            .statusCode(200)
+            .contentType(containsString("application/x-ndjson"))
+            .extract().asString();
+        assertThat(ndjson).isEmpty();
+    }
+
     /**
      * Test: Obtener candidato por ID
      */
@@ -187,6 +359,481 @@ public class CandidatoContorllerTest extends BaseConfig {
             .body("nombre", equalTo(savedCandidate.getNombre()));
     }
 
+    /**
+     * Test: Las lecturas repetidas se sirven desde la caché y la actualización la invalida
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id} - Caché de candidatos con invalidación en PUT")
+    void testGetCandidateById_CachedAndEvictedOnUpdate() {
+        // Arrange
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("cache@test.com");
+
+        // Act: Dos lecturas, la segunda desde la caché
+        for (int i = 0; i < 2; i++) {
+            given()
+            .when()
+                .get(BASE_PATH + "/{id}", savedCandidate.getId())
+            .then()
+                .statusCode(200)
+                .body("nombre", equalTo("Test"));
+        }
+        assertThat(cacheManager.getCache("candidatos").get(savedCandidate.getId())).isNotNull();
+
+        given()
+            .queryParam("tag", "result:hit")
+        .when()
+            .get("/actuator/metrics/cache.gets")
+        .then()
+            .statusCode(200)
+            .body("measurements[0].value", greaterThanOrEqualTo(1.0f));
+
+        // Act: Actualizar invalida la entrada
+        CandidatoDTO update = candidateFixture.createValidCandidateDTO();
+        update.setEmail("cache@test.com");
+        update.setNombre("Actualizado");
+        given()
+            .contentType(ContentType.JSON)
+            .body(update)
+        .when()
+            .put(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200);
+
+        // Assert: La siguiente lectura refleja el cambio
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .body("nombre", equalTo("Actualizado"));
+    }
+
+    /**
+     * Test: GET condicional con If-None-Match
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id} - If-None-Match vigente retorna 304 y deja de coincidir tras un PUT")
+    void testGetCandidateById_ConditionalGet() {
+        // Arrange
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("etag@test.com");
+        String eTag = given()
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract().header("ETag");
+
+        // Act & Assert: Sin cambios no se devuelve cuerpo
+        given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(304)
+            .header("ETag", equalTo(eTag));
+
+        CandidatoDTO update = candidateFixture.createValidCandidateDTO();
+        update.setEmail("etag@test.com");
+        String newETag = given()
+            .contentType(ContentType.JSON)
+            .body(update)
+        .when()
+            .put(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .extract().header("ETag");
+        assertThat(newETag).isNotEqualTo(eTag);
+
+        given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .header("ETag", equalTo(newETag))
+            .body("nombre", equalTo("Juan"));
+    }
+
+    /**
+     * Test: PUT y DELETE condicionales con If-Match
+     */
+    @Test
+    @DisplayName("PUT/DELETE /api/v1/candidatos/{id} - If-Match obsoleto retorna 412")
+    void testUpdateAndDeleteCandidate_IfMatch() {
+        // Arrange
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("ifmatch@test.com");
+        String eTag = given()
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .extract().header("ETag");
+
+        CandidatoDTO update = candidateFixture.createValidCandidateDTO();
+        update.setEmail("ifmatch@test.com");
+        String newETag = given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", eTag)
+            .body(update)
+        .when()
+            .put(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .extract().header("ETag");
+
+        // Act & Assert: El ETag anterior ya no es válido
+        update.setNombre("Otro");
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", eTag)
+            .body(update)
+        .when()
+            .put(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(412);
+
+        given()
+            .header("If-Match", eTag)
+        .when()
+            .delete(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(412);
+        assertThat(candidatoRepository.findById(savedCandidate.getId()))
+            .get().extracting(Candidato::getNombre).isEqualTo("Juan");
+
+        given()
+            .header("If-Match", newETag)
+        .when()
+            .delete(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(204);
+    }
+
+    /**
+     * Test: Un cambio registrado por otra instancia invalida la entrada de la caché local
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id} - Cambio de otra instancia invalida la caché")
+    void testGetCandidateById_EvictedByRemoteChange() {
+        // Arrange: Candidato en caché
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("remoto@test.com");
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .body("nombre", equalTo("Test"));
+
+        // Act: Otra instancia modifica el candidato y registra el cambio
+        savedCandidate.setNombre("Remoto");
+        candidatoRepository.save(savedCandidate);
+        CandidatoCambio cambio = new CandidatoCambio();
+        cambio.setCandidatoId(savedCandidate.getId());
+        cambio.setTipo(TipoCambio.ACTUALIZADO);
+        cambio.setOrigen("otra-instancia");
+        cambio.setFechaCambio(LocalDateTime.now());
+        candidatoCambioRepository.save(cambio);
+        candidatoCambioService.sincronizar();
+
+        // Assert
+        assertThat(cacheManager.getCache("candidatos").get(savedCandidate.getId())).isNull();
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .body("nombre", equalTo("Remoto"));
+    }
+
+    /**
+     * Test: Sin el DTO en la caché de candidatos, la entidad se lee de la caché de segundo nivel
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id} - La entidad se lee de la caché de segundo nivel")
+    void testGetCandidateById_SecondLevelCache() {
+        // Arrange: Primera lectura, que guarda la entidad en la caché de segundo nivel
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("segundo-nivel@test.com");
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200);
+        cacheManager.getCache("candidatos").evict(savedCandidate.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .body("email", equalTo("segundo-nivel@test.com"));
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test: Una baja registrada por otra instancia invalida la entidad en la caché de segundo nivel
+     */
+    @Test
+    @DisplayName("Caché de segundo nivel - Baja desde otra instancia invalida la entidad")
+    void testSecondLevelCache_EvictedByRemoteChange() {
+        // Arrange: Candidato en la caché de segundo nivel
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("remoto-entidad@test.com");
+        given()
+        .when()
+            .get(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200);
+        assertThat(entityManagerFactory.getCache().contains(Candidato.class, savedCandidate.getId())).isTrue();
+
+        // Act: Otra instancia elimina el candidato y registra el cambio
+        jdbcTemplate.update("delete from candidatos where id = ?", savedCandidate.getId());
+        CandidatoCambio cambio = new CandidatoCambio();
+        cambio.setCandidatoId(savedCandidate.getId());
+        cambio.setTipo(TipoCambio.ELIMINADO);
+        cambio.setOrigen("otra-instancia");
+        cambio.setFechaCambio(LocalDateTime.now());
+        candidatoCambioRepository.save(cambio);
+        candidatoCambioService.sincronizar();
+
+        // Assert
+        assertThat(entityManagerFactory.getCache().contains(Candidato.class, savedCandidate.getId())).isFalse();
+        assertThat(candidatoRepository.findById(savedCandidate.getId())).isEmpty();
+    }
+
+    /**
+     * Test: Las modificaciones se registran en la tabla de cambios
+     */
+    @Test
+    @DisplayName("PUT /api/v1/candidatos/{id} - Registra el cambio para el resto de instancias")
+    void testUpdateCandidate_RegistersChange() {
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("registro@test.com");
+        CandidatoDTO update = candidateFixture.createValidCandidateDTO();
+        update.setEmail("registro@test.com");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(update)
+        .when()
+            .put(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200);
+
+        assertThat(candidatoCambioRepository.findAll())
+            .anyMatch(c -> c.getCandidatoId().equals(savedCandidate.getId()) && c.getTipo() == TipoCambio.ACTUALIZADO);
+    }
+
+    /**
+     * Test: Búsqueda por texto sin tildes, por prefijo y actualizada tras modificar el candidato
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/busqueda - Búsqueda sin tildes y por prefijo")
+    void testSearchCandidates() {
+        // Arrange
+        CandidatoDTO candidateDTO = candidateFixture.createValidCandidateDTO();
+        candidateDTO.setNombre("José");
+        candidateDTO.setApellidos("Núñez");
+        Integer id = given()
+            .contentType(ContentType.JSON)
+            .body(candidateDTO)
+        .when()
+            .post(BASE_PATH)
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+
+        // Act & Assert
+        given()
+            .queryParam("q", "jose nun")
+        .when()
+            .get(BASE_PATH + "/busqueda")
+        .then()
+            .statusCode(200)
+            .body("size()", equalTo(1))
+            .body("[0].id", equalTo(id));
+
+        // Tras cambiar el nombre deja de encontrarse por el anterior
+        candidateDTO.setNombre("Pedro");
+        given()
+            .contentType(ContentType.JSON)
+            .body(candidateDTO)
+        .when()
+            .put(BASE_PATH + "/{id}", id)
+        .then()
+            .statusCode(200);
+
+        given()
+            .queryParam("q", "jose")
+        .when()
+            .get(BASE_PATH + "/busqueda")
+        .then()
+            .statusCode(200)
+            .body("size()", equalTo(0));
+    }
+
+    /**
+     * Test: Búsqueda sin texto
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/busqueda - Sin parámetro q retorna 400")
+    void testSearchCandidates_MissingQuery() {
+        given()
+        .when()
+            .get(BASE_PATH + "/busqueda")
+        .then()
+            .statusCode(400)
+            .body("message", equalTo("El parámetro q es obligatorio"));
+    }
+
+    /**
+     * Test: Candidatos disponibles en un periodo, paginados por cursor
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/disponibles - Solapamiento de periodos de disponibilidad")
+    void testGetAvailableCandidates() {
+        // Arrange: enero, febrero y marzo-abril
+        String[][] periodos = {
+            {"2025-01-01", "2025-01-31"},
+            {"2025-02-01", "2025-02-28"},
+            {"2025-03-15", "2025-04-30"}
+        };
+        for (int i = 0; i < periodos.length; i++) {
+            CandidatoDTO candidateDTO = candidateFixture.createValidCandidateDTO();
+            candidateDTO.setEmail("disponible" + i + "@test.com");
+            candidateDTO.setDisponibilidadDesde(LocalDate.parse(periodos[i][0]));
+            candidateDTO.setDisponibilidadHasta(LocalDate.parse(periodos[i][1]));
+            given()
+                .contentType(ContentType.JSON)
+                .body(candidateDTO)
+            .when()
+                .post(BASE_PATH)
+            .then()
+                .statusCode(201);
+        }
+
+        // Act & Assert: del 31 de enero al 20 de marzo se solapan los tres, de uno en uno
+        String next = given()
+            .queryParam("desde", "2025-01-31")
+            .queryParam("hasta", "2025-03-20")
+            .queryParam("size", 2)
+        .when()
+            .get(BASE_PATH + "/disponibles")
+        .then()
+            .statusCode(200)
+            .body("contenido.email", contains("disponible0@test.com", "disponible1@test.com"))
+            .body("next", notNullValue())
+            .extract().path("next");
+
+        given()
+            .queryParam("desde", "2025-01-31")
+            .queryParam("hasta", "2025-03-20")
+            .queryParam("size", 2)
+            .queryParam("cursor", next)
+        .when()
+            .get(BASE_PATH + "/disponibles")
+        .then()
+            .statusCode(200)
+            .body("contenido.email", contains("disponible2@test.com"))
+            .body("next", nullValue());
+
+        // Solo febrero
+        given()
+            .queryParam("desde", "2025-02-10")
+            .queryParam("hasta", "2025-02-12")
+        .when()
+            .get(BASE_PATH + "/disponibles")
+        .then()
+            .statusCode(200)
+            .body("contenido.email", contains("disponible1@test.com"));
+    }
+
+    /**
+     * Test: Periodo con fechas invertidas
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/disponibles - desde posterior a hasta retorna 400")
+    void testGetAvailableCandidates_InvalidRange() {
+        given()
+            .queryParam("desde", "2025-03-01")
+            .queryParam("hasta", "2025-02-01")
+        .when()
+            .get(BASE_PATH + "/disponibles")
+        .then()
+            .statusCode(400)
+            .body("message", equalTo("La fecha desde no puede ser posterior a la fecha hasta"));
+    }
+
+    /**
+     * Test: Actualización parcial de un candidato
+     */
+    @Test
+    @DisplayName("PATCH /api/v1/candidatos/{id} - Solo modifica los campos enviados")
+    void testPatchCandidate_Success() {
+        // Arrange
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("patch@test.com");
+
+        // Act & Assert
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"telefono\": \"+56999999999\", \"disponibilidadHasta\": \"2026-06-30\"}")
+        .when()
+            .patch(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(200)
+            .body("telefono", equalTo("+56999999999"))
+            .body("disponibilidadHasta", equalTo("2026-06-30"))
+            .body("email", equalTo("patch@test.com"))
+            .body("nombre", equalTo(savedCandidate.getNombre()));
+
+        Candidato updated = candidatoRepository.findById(savedCandidate.getId()).orElseThrow();
+        assertThat(updated.getTelefono()).isEqualTo("+56999999999");
+        assertThat(updated.getApellidos()).isEqualTo(savedCandidate.getApellidos());
+    }
+
+    /**
+     * Test: Actualización parcial con campos inválidos
+     */
+    @Test
+    @DisplayName("PATCH /api/v1/candidatos/{id} - Valida solo los campos enviados")
+    void testPatchCandidate_ValidationErrors() {
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("patch@test.com");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"email\": \"no-es-un-email\", \"fechaNacimiento\": \"1990-13-01\", \"id\": 5}")
+        .when()
+            .patch(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(400)
+            .body("validationErrors.email", equalTo("El correo electrónico debe ser válido"))
+            .body("validationErrors.fechaNacimiento", equalTo("Formato inválido"))
+            .body("validationErrors.id", equalTo("Campo desconocido o no editable"));
+    }
+
+    /**
+     * Test: Actualización parcial con email de otro candidato
+     */
+    @Test
+    @DisplayName("PATCH /api/v1/candidatos/{id} - Email existente retorna 409 CONFLICT")
+    void testPatchCandidate_DuplicatedEmail() {
+        candidateFixture.createAndSaveCandidate("existente@test.com");
+        Candidato savedCandidate = candidateFixture.createAndSaveCandidate("patch@test.com");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"email\": \"existente@test.com\"}")
+        .when()
+            .patch(BASE_PATH + "/{id}", savedCandidate.getId())
+        .then()
+            .statusCode(409)
+            .body("message", equalTo("Email existente"));
+    }
+
     /**
      * Test: Obtener candidato por ID inexistente
      */
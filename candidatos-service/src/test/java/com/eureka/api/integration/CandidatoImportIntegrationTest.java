@@ -0,0 +1,119 @@
+package com.eureka.api.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.eureka.api.config.BaseConfig;
+import com.eureka.api.dto.CandidatoDTO;
+
+import io.restassured.http.ContentType;
+
+@Testcontainers
+public class CandidatoImportIntegrationTest extends BaseConfig {
+
+    @Container
+    @ServiceConnection
+    protected static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final String IMPORT_PATH = BASE_PATH + "/importar";
+
+    /**
+     * Test: Importación JSON con filas válidas e inválidas
+     */
+    @Test
+    @DisplayName("POST /api/v1/candidatos/importar - JSON inserta las filas válidas y devuelve los errores por fila")
+    void testImportJson_PartialErrors() {
+        // Arrange: Un candidato existente y 2500 filas (tres bloques) con algunos errores
+        candidateFixture.createAndSaveCandidate("existente@test.com");
+        List<CandidatoDTO> candidatos = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            CandidatoDTO candidato = candidateFixture.createValidCandidateDTO();
+            candidato.setEmail("import" + i + "@test.com");
+            candidatos.add(candidato);
+        }
+        candidatos.get(9).setNombre("");
+        candidatos.get(1999).setEmail("import0@test.com");
+        candidatos.get(2499).setEmail("EXISTENTE@test.com");
+
+        // Act & Assert
+        given()
+            .contentType(ContentType.JSON)
+            .body(candidatos)
+        .when()
+            .post(IMPORT_PATH)
+        .then()
+            .statusCode(200)
+            .body("total", equalTo(2500))
+            .body("importados", equalTo(2497))
+            .body("errores", hasSize(3))
+            .body("errores[0].fila", equalTo(10))
+            .body("errores[0].errores.nombre", equalTo("El nombre es obligatorio"))
+            .body("errores[1].fila", equalTo(2000))
+            .body("errores[1].errores.email", equalTo("Email duplicado en la importación"))
+            .body("errores[2].fila", equalTo(2500))
+            .body("errores[2].errores.email", equalTo("Email existente"));
+
+        assertThat(candidatoRepository.count()).isEqualTo(2498L);
+    }
+
+    /**
+     * Test: Importación CSV con el mismo formato que la exportación
+     */
+    @Test
+    @DisplayName("POST /api/v1/candidatos/importar - CSV con campos entre comillas y fecha inválida")
+    void testImportCsv() {
+        String csv = "id,nombre,apellidos,email,telefono,tipoDocumento,numeroDocumento,genero,lugarNacimiento,"
+            + "fechaNacimiento,direccion,codigoPostal,pais,localizacion,disponibilidadDesde,disponibilidadHasta\r\n"
+            + ",Ana,\"Pérez, López\",ana@test.com,+56912345678,RUT,1-9,F,Santiago,1990-01-01,Calle 1,8320000,Chile,"
+            + "Santiago,2025-01-01,2025-12-31\r\n"
+            + ",Luis,Soto,luis@test.com,+56912345678,RUT,2-7,M,Santiago,1990-13-01,Calle 2,8320000,Chile,"
+            + "Santiago,2025-01-01,2025-12-31\r\n";
+
+        given()
+            .contentType("text/csv; charset=UTF-8")
+            .body(csv)
+        .when()
+            .post(IMPORT_PATH)
+        .then()
+            .statusCode(200)
+            .body("total", equalTo(2))
+            .body("importados", equalTo(1))
+            .body("errores[0].fila", equalTo(2))
+            .body("errores[0].errores.fechaNacimiento", equalTo("Fecha inválida: 1990-13-01"));
+
+        given()
+        .when()
+            .get(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .body("[0].apellidos", equalTo("Pérez, López"));
+    }
+
+    /**
+     * Test: CSV con columnas desconocidas
+     */
+    @Test
+    @DisplayName("POST /api/v1/candidatos/importar - CSV con columna desconocida retorna 400")
+    void testImportCsv_UnknownColumn() {
+        given()
+            .contentType("text/csv; charset=UTF-8")
+            .body("nombre,edad\r\nAna,30\r\n")
+        .when()
+            .post(IMPORT_PATH)
+        .then()
+            .statusCode(400)
+            .body("message", equalTo("Columna desconocida en el CSV: edad"));
+    }
+}
@@ -3,24 +3,49 @@ package com.eureka.api.integration;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.eureka.api.clients.AdjuntoClient;
 import com.eureka.api.config.BaseConfig;
 import com.eureka.api.model.Candidato;
+import com.eureka.api.model.OutboxEvento;
+import com.eureka.api.model.TipoEvento;
+import com.eureka.api.service.OutboxService;
 import com.eureka.api.stubs.AdjuntoWireMockStubs;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import io.restassured.http.ContentType;
 
 /**
@@ -44,6 +69,15 @@ public class CandidatoWithAdjuntosIntegrationTest extends BaseConfig {
         .options(WireMockConfiguration.wireMockConfig().port(9090))
         .build();
     
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider sdkTracerProvider;
+
     @BeforeEach
     void setupMocks() {
         AdjuntoWireMockStubs.setupAllStubs(wireMockServer);
@@ -142,6 +176,261 @@ public class CandidatoWithAdjuntosIntegrationTest extends BaseConfig {
         assertThat(candidatoRepository.count()).isEqualTo(3);
     }
 
+    /**
+     * Test: Listar candidatos con adjuntos usando la consulta por lotes
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/adjuntos - Adjuntos obtenidos por lotes de IDs")
+    void testGetAllCandidatesWithAdjuntos_BatchLookup() {
+        // Arrange
+        Candidato conAdjuntos = candidateFixture.createAndSaveCandidate("lote1@test.com");
+        Candidato sinAdjuntos = candidateFixture.createAndSaveCandidate("lote2@test.com");
+        AdjuntoWireMockStubs.stubGetAdjuntosByCandidatoIds(wireMockServer, conAdjuntos.getId(), 2);
+
+        // Act & Assert
+        given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(BASE_PATH + "/adjuntos")
+        .then()
+            .statusCode(200)
+            .body("size()", equalTo(2))
+            .body("[0].id", equalTo(conAdjuntos.getId()))
+            .body("[0].adjuntos.size()", equalTo(2))
+            .body("[1].id", equalTo(sinAdjuntos.getId()))
+            .body("[1].adjuntos.size()", equalTo(0));
+
+        // Una sola llamada por lotes, sin descargar la tabla completa de adjuntos
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/v1/adjuntos/candidatos")));
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/api/v1/adjuntos")));
+    }
+
+    /**
+     * Test: Obtener un candidato con sus adjuntos
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Candidato y adjuntos obtenidos en paralelo")
+    void testGetCandidateWithAdjuntos_Success() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("detalle@test.com");
+        AdjuntoWireMockStubs.stubListaAdjuntosForCandidato(wireMockServer, candidato.getId(), 2, 0);
+
+        // Act & Assert
+        given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+        .then()
+            .statusCode(200)
+            .body("id", equalTo(candidato.getId()))
+            .body("email", equalTo("detalle@test.com"))
+            .body("adjuntos.size()", equalTo(2));
+    }
+
+    /**
+     * Test: GET condicional del candidato con sus adjuntos
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - If-None-Match vigente retorna 304")
+    void testGetCandidateWithAdjuntos_ConditionalGet() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("etag-adjuntos@test.com");
+        AdjuntoWireMockStubs.stubListaAdjuntosForCandidato(wireMockServer, candidato.getId(), 2, 0);
+        String eTag = given()
+        .when()
+            .get(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract().header("ETag");
+
+        // Act & Assert
+        given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+        .then()
+            .statusCode(304);
+
+        // Un adjunto más cambia el ETag
+        AdjuntoWireMockStubs.stubListaAdjuntosForCandidato(wireMockServer, candidato.getId(), 3, 0);
+        given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+        .then()
+            .statusCode(200)
+            .body("adjuntos.size()", equalTo(3));
+    }
+
+    /**
+     * Test: Las llamadas a adjuntos reutilizan conexiones del pool y publican sus métricas
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Pool de conexiones keep-alive con métricas")
+    void testGetCandidateWithAdjuntos_PooledConnections() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("pool@test.com");
+        AdjuntoWireMockStubs.stubListaAdjuntosForCandidato(wireMockServer, candidato.getId(), 1, 0);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            given()
+            .when()
+                .get(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+            .then()
+                .statusCode(200);
+        }
+
+        // Assert: Las conexiones vuelven al pool en lugar de cerrarse
+        given()
+            .queryParam("tag", "state:available")
+        .when()
+            .get("/actuator/metrics/httpcomponents.httpclient.pool.total.connections")
+        .then()
+            .statusCode(200)
+            .body("measurements[0].value", greaterThanOrEqualTo(1.0f));
+
+        given()
+        .when()
+            .get("/actuator/metrics/httpcomponents.httpclient.pool.wait")
+        .then()
+            .statusCode(200)
+            .body("measurements.find { it.statistic == 'COUNT' }.value", greaterThanOrEqualTo(3.0f));
+    }
+
+    /**
+     * Test: Las consultas concurrentes del mismo candidato se agrupan en una llamada por lotes
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Consultas concurrentes agrupadas en lotes")
+    void testGetCandidateWithAdjuntos_BatchedConcurrentLookups() throws Exception {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("concurrente@test.com");
+        AdjuntoWireMockStubs.stubListaAdjuntosForCandidato(wireMockServer, candidato.getId(), 2, 0);
+        int peticiones = 10;
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(peticiones)) {
+            List<Future<Integer>> adjuntos = new ArrayList<>();
+            for (int i = 0; i < peticiones; i++) {
+                adjuntos.add(executor.submit(() -> given()
+                    .when()
+                        .get(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+                    .then()
+                        .statusCode(200)
+                        .extract().path("adjuntos.size()")));
+            }
+
+            // Assert: Todas las peticiones reciben los adjuntos
+            for (Future<Integer> numAdjuntos : adjuntos) {
+                assertThat(numAdjuntos.get()).isEqualTo(2);
+            }
+        }
+
+        // Menos llamadas a adjunto-service que peticiones, y ninguna a la consulta individual
+        assertThat(wireMockServer.countRequestsMatching(
+            postRequestedFor(urlEqualTo("/api/v1/adjuntos/candidatos")).build()).getCount())
+            .isLessThan(peticiones);
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/api/v1/adjuntos/candidato/" + candidato.getId())));
+
+        given()
+        .when()
+            .get("/actuator/metrics/candidatos.adjuntos.lote.compartidas")
+        .then()
+            .statusCode(200)
+            .body("measurements[0].value", greaterThanOrEqualTo(1.0f));
+    }
+
+    /**
+     * Test: Candidato inexistente aunque el servicio de adjuntos tarde en responder
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Candidato inexistente retorna 404 sin esperar a adjuntos")
+    void testGetCandidateWithAdjuntos_NotFound() {
+        AdjuntoWireMockStubs.stubListaAdjuntosForCandidato(wireMockServer, 999, 1, 5000);
+
+        given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(BASE_PATH + "/{id}/adjuntos", 999)
+        .then()
+            .statusCode(404)
+            .body("message", equalTo("No se encontró un candidato con el ID dado 999"));
+    }
+
+    /**
+     * Test: El servicio de adjuntos supera el plazo configurado
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Plazo agotado retorna el candidato sin adjuntos")
+    void testGetCandidateWithAdjuntos_Timeout() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("lento@test.com");
+        AdjuntoWireMockStubs.stubListaAdjuntosForCandidato(wireMockServer, candidato.getId(), 1, 5000);
+
+        // Act & Assert
+        given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+        .then()
+            .statusCode(200)
+            .header("ETag", nullValue())
+            .body("id", equalTo(candidato.getId()))
+            .body("adjuntosDisponibles", equalTo(false))
+            .body("adjuntos.size()", equalTo(0));
+    }
+
+    /**
+     * Test: Tras varios fallos seguidos de adjunto-service se abre el circuito y deja de llamarse
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id}/adjuntos - Circuito abierto tras fallos de adjunto-service")
+    void testGetCandidateWithAdjuntos_CircuitBreakerOpen() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("caido@test.com");
+        AdjuntoWireMockStubs.stubErrorAdjuntosForCandidato(wireMockServer, candidato.getId());
+
+        // Act & Assert: Todas las respuestas son degradadas
+        for (int i = 0; i < 15; i++) {
+            given()
+            .when()
+                .get(BASE_PATH + "/{id}/adjuntos", candidato.getId())
+            .then()
+                .statusCode(200)
+                .body("adjuntosDisponibles", equalTo(false))
+                .body("adjuntos.size()", equalTo(0));
+        }
+
+        // Con 10 fallos (minimum-number-of-calls) el circuito se abre y el resto no llega a adjunto-service
+        wireMockServer.verify(10, postRequestedFor(urlEqualTo("/api/v1/adjuntos/candidatos")));
+        assertThat(circuitBreakerRegistry.circuitBreaker(AdjuntoClient.NAME).getState())
+            .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    /**
+     * Test: Listado con adjuntos cuando la consulta por lotes falla
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/adjuntos - Adjuntos no disponibles si falla la consulta por lotes")
+    void testGetAllCandidatesWithAdjuntos_Degraded() {
+        // Arrange
+        candidateFixture.createAndSaveCandidate("degradado1@test.com");
+        candidateFixture.createAndSaveCandidate("degradado2@test.com");
+        AdjuntoWireMockStubs.stubErrorAdjuntosByCandidatoIds(wireMockServer);
+
+        // Act & Assert
+        given()
+        .when()
+            .get(BASE_PATH + "/adjuntos")
+        .then()
+            .statusCode(200)
+            .body("size()", equalTo(2))
+            .body("adjuntosDisponibles", everyItem(equalTo(false)))
+            .body("[0].adjuntos.size()", equalTo(0));
+    }
+
     /**
      * Test: Verificar escenario de candidato sin adjuntos
      */
@@ -292,4 +581,136 @@ public class CandidatoWithAdjuntosIntegrationTest extends BaseConfig {
         // Los datos están consistentes para cuando se consulte el servicio de adjuntos
         assertThat(candidatoRepository.count()).isEqualTo(1);
     }
+
+    /**
+     * Test: La eliminación de los adjuntos se registra en el outbox y se envía después, fuera de la petición
+     */
+    @Test
+    @DisplayName("Escenario: Eliminar candidato y eliminar sus adjuntos en segundo plano vía outbox")
+    void testDeleteCandidate_DeletesAdjuntosViaOutbox() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("outbox@test.com");
+        Integer candidatoId = candidato.getId();
+        AdjuntoWireMockStubs.stubEliminarAdjuntosForCandidato(wireMockServer, candidatoId);
+
+        // Act: La petición no llama al servicio de adjuntos
+        given()
+        .when()
+            .delete(BASE_PATH + "/{id}", candidatoId)
+        .then()
+            .statusCode(204);
+
+        wireMockServer.verify(0, deleteRequestedFor(urlEqualTo("/api/v1/adjuntos/candidato/" + candidatoId)));
+        assertThat(outboxEventoRepository.findAll())
+            .extracting(OutboxEvento::getCandidatoId, OutboxEvento::getTipo)
+            .containsExactly(tuple(candidatoId, TipoEvento.CANDIDATO_ELIMINADO));
+
+        // Assert: El envío del outbox elimina los adjuntos y borra el evento
+        outboxService.enviarPendientes();
+
+        wireMockServer.verify(1, deleteRequestedFor(urlEqualTo("/api/v1/adjuntos/candidato/" + candidatoId)));
+        assertThat(outboxEventoRepository.count()).isZero();
+    }
+
+    /**
+     * Test: Si el servicio de adjuntos falla, el candidato se elimina igual y el evento se reintenta más tarde
+     */
+    @Test
+    @DisplayName("Escenario: Eliminar candidato con el servicio de adjuntos caído deja la eliminación pendiente de reintento")
+    void testDeleteCandidate_OutboxRetriesWhenAdjuntosServiceFails() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("outbox-error@test.com");
+        Integer candidatoId = candidato.getId();
+        AdjuntoWireMockStubs.stubErrorEliminarAdjuntosForCandidato(wireMockServer, candidatoId);
+
+        given()
+        .when()
+            .delete(BASE_PATH + "/{id}", candidatoId)
+        .then()
+            .statusCode(204);
+        assertThat(candidatoRepository.findById(candidatoId)).isEmpty();
+
+        // Act
+        outboxService.enviarPendientes();
+        outboxService.enviarPendientes();
+
+        // Assert: Un solo intento, el siguiente queda aplazado
+        wireMockServer.verify(1, deleteRequestedFor(urlEqualTo("/api/v1/adjuntos/candidato/" + candidatoId)));
+        List<OutboxEvento> pendientes = outboxEventoRepository.findAll();
+        assertThat(pendientes).hasSize(1);
+        assertThat(pendientes.get(0).getIntentos()).isEqualTo(1);
+        assertThat(pendientes.get(0).getProximoIntento()).isAfter(pendientes.get(0).getFechaCreacion());
+    }
+
+    /**
+     * Test: Las peticiones al servicio y las llamadas a adjunto-service se publican en /actuator/prometheus
+     * con histograma de latencia y las etiquetas de endpoint
+     */
+    @Test
+    @DisplayName("Escenario: Métricas de latencia de la API y de las llamadas a adjuntos en /actuator/prometheus")
+    void testPrometheusMetrics() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("metricas@test.com");
+        AdjuntoWireMockStubs.stubGetAdjuntosByCandidatoIds(wireMockServer, candidato.getId(), 1);
+        given()
+        .when()
+            .get(BASE_PATH + "/adjuntos")
+        .then()
+            .statusCode(200);
+
+        // Act & Assert
+        given()
+        .when()
+            .get("/actuator/prometheus")
+        .then()
+            .statusCode(200)
+            .body(containsString("http_server_requests_seconds_bucket{application=\"candidato-service-test\""))
+            .body(containsString("uri=\"/api/v1/candidatos/adjuntos\""))
+            .body(containsString("http_client_requests_seconds_bucket{application=\"candidato-service-test\",client_name=\"adjunto-service\""))
+            .body(containsString("uri=\"/api/v1/adjuntos/candidatos\""))
+            .body(containsString("hikaricp_connections_acquire_seconds_bucket"))
+            .body(containsString("hibernate_statements_total"));
+    }
+
+    /**
+     * Test: La petición deja una traza con la consulta a MySQL, la llamada a adjunto-service (que recibe la traza
+     * en la cabecera traceparent) y el mapeo como spans hijos del span del endpoint
+     */
+    @Test
+    @DisplayName("Escenario: Traza de obtener candidatos con adjuntos con la consulta, la llamada a adjuntos y el mapeo")
+    void testTracingFindAllWithAdjuntos() {
+        // Arrange
+        Candidato candidato = candidateFixture.createAndSaveCandidate("traza@test.com");
+        AdjuntoWireMockStubs.stubGetAdjuntosByCandidatoIds(wireMockServer, candidato.getId(), 1);
+        spanExporter.reset();
+
+        // Act
+        given()
+        .when()
+            .get(BASE_PATH + "/adjuntos")
+        .then()
+            .statusCode(200);
+
+        // Assert: El span del endpoint termina justo después de enviar la respuesta
+        SpanData endpoint = await().atMost(Duration.ofSeconds(10)).until(() -> {
+            sdkTracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+            return spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getKind() == SpanKind.SERVER)
+                .filter(span -> span.getName().equals("http get /api/v1/candidatos/adjuntos"))
+                .findFirst();
+        }, Optional::isPresent).get();
+
+        List<SpanData> hijos = spanExporter.getFinishedSpanItems().stream()
+            .filter(span -> span.getParentSpanId().equals(endpoint.getSpanId()))
+            .toList();
+        assertThat(hijos)
+            .extracting(SpanData::getKind, SpanData::getName)
+            .contains(
+                tuple(SpanKind.CLIENT, "query"),
+                tuple(SpanKind.CLIENT, "http post"),
+                tuple(SpanKind.INTERNAL, "mapear candidatos con adjuntos"));
+
+        wireMockServer.verify(postRequestedFor(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .withHeader("traceparent", containing(endpoint.getTraceId())));
+    }
 }
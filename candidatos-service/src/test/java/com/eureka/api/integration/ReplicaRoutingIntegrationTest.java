@@ -0,0 +1,200 @@
+package com.eureka.api.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.eureka.api.config.BaseConfig;
+import com.eureka.api.dto.CandidatoDTO;
+import com.eureka.common.replicas.LecturaTrasEscrituraFilter;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Réplica de lectura simulada con un segundo MySQL sin replicación: lo que se escribe en el primario no llega
+ * nunca a la réplica, y lo que solo está en la réplica muestra qué lecturas van a ella.
+ */
+@Testcontainers
+public class ReplicaRoutingIntegrationTest extends BaseConfig {
+
+    @Container
+    @ServiceConnection
+    protected static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    // Como root para que schema.sql pueda crear la base de datos eureka-project-db
+    @Container
+    protected static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0")
+        .withUsername("root")
+        .withInitScript("schema.sql");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replicas.urls", ReplicaRoutingIntegrationTest::replicaUrl);
+        registry.add("datasource.replicas.username", replica::getUsername);
+        registry.add("datasource.replicas.password", replica::getPassword);
+        registry.add("datasource.replicas.lectura-tras-escritura", () -> "3s");
+    }
+
+    private static String replicaUrl() {
+        return "jdbc:mysql://" + replica.getHost() + ":" + replica.getMappedPort(MySQLContainer.MYSQL_PORT)
+            + "/eureka-project-db";
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUpReplica() {
+        replicaJdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource(replicaUrl(), replica.getUsername(), replica.getPassword()));
+        replicaJdbcTemplate.update("delete from candidatos");
+        replicaJdbcTemplate.update("""
+            insert into candidatos (nombre, apellidos, email, telefono, tipo_documento, numero_documento, genero,
+                lugar_nacimiento, fecha_nacimiento, direccion, codigo_postal, pais, localizacion,
+                disponibilidad_desde, disponibilidad_hasta, version)
+            values ('Rita', 'Réplica', 'replica@test.com', '+56912345678', 'RUT', '1-9', 'F', 'Santiago',
+                '1990-01-01', 'Calle 1', '8320000', 'Chile', 'Santiago', '2025-01-01', '2025-12-31', 0)
+            """);
+    }
+
+    /**
+     * Test: Las escrituras van al primario. Las lecturas del cliente que escribió también, con la cookie de la
+     * respuesta, hasta que pasa el periodo de lectura tras escritura; las de los demás clientes van a la réplica
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos - Lee del primario tras una escritura del mismo cliente y de la réplica después")
+    void testReadYourWritesThenReplica() {
+        CandidatoDTO candidateDTO = candidateFixture.createValidCandidateDTO();
+
+        String escritura = given()
+            .contentType(ContentType.JSON)
+            .body(candidateDTO)
+        .when()
+            .post(BASE_PATH)
+        .then()
+            .statusCode(201)
+            .extract()
+            .cookie(LecturaTrasEscrituraFilter.COOKIE);
+        assertThat(escritura).isNotNull();
+
+        // Sin transacción, JdbcTemplate usa el primario
+        assertThat(jdbcTemplate.queryForList("select email from candidatos", String.class))
+            .containsExactly(candidateDTO.getEmail());
+        assertThat(replicaJdbcTemplate.queryForList("select email from candidatos", String.class))
+            .containsExactly("replica@test.com");
+
+        given()
+            .cookie(LecturaTrasEscrituraFilter.COOKIE, escritura)
+        .when()
+            .get(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .body("email", hasItem(candidateDTO.getEmail()))
+            .body("email", not(hasItem("replica@test.com")));
+
+        given()
+        .when()
+            .get(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .body("email", hasItem("replica@test.com"))
+            .body("email", not(hasItem(candidateDTO.getEmail())));
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+            given()
+                .cookie(LecturaTrasEscrituraFilter.COOKIE, escritura)
+            .when()
+                .get(BASE_PATH)
+            .then()
+                .statusCode(200)
+                .body("email", hasItem("replica@test.com"))
+                .body("email", not(hasItem(candidateDTO.getEmail()))));
+    }
+
+    /**
+     * Test: Lo que se lee de la réplica no llena las cachés. Tras borrar un candidato que la réplica aún tiene,
+     * un cliente sin la cookie recibe 404 aunque antes haya listado los candidatos desde la réplica
+     */
+    @Test
+    @DisplayName("GET /api/v1/candidatos/{id} - Las cachés no guardan un candidato borrado que sigue en la réplica")
+    void testDeletedCandidateIsNotCachedFromReplica() {
+        Integer id = given()
+            .contentType(ContentType.JSON)
+            .body(candidateFixture.createValidCandidateDTO())
+        .when()
+            .post(BASE_PATH)
+        .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+        replicaJdbcTemplate.update("delete from candidatos where id = ?", id);
+        replicaJdbcTemplate.update("""
+            insert into candidatos (id, nombre, apellidos, email, telefono, tipo_documento, numero_documento, genero,
+                lugar_nacimiento, fecha_nacimiento, direccion, codigo_postal, pais, localizacion,
+                disponibilidad_desde, disponibilidad_hasta, version)
+            values (?, 'Bruno', 'Borrado', 'borrado@test.com', '+56912345678', 'RUT', '2-7', 'M', 'Santiago',
+                '1990-01-01', 'Calle 2', '8320000', 'Chile', 'Santiago', '2025-01-01', '2025-12-31', 0)
+            """, id);
+
+        given()
+        .when()
+            .get(BASE_PATH + "/" + id)
+        .then()
+            .statusCode(200);
+
+        given()
+        .when()
+            .delete(BASE_PATH + "/" + id)
+        .then()
+            .statusCode(204);
+
+        given()
+        .when()
+            .get(BASE_PATH)
+        .then()
+            .statusCode(200)
+            .body("email", hasItem("borrado@test.com"));
+
+        given()
+        .when()
+            .get(BASE_PATH + "/" + id)
+        .then()
+            .statusCode(404);
+    }
+
+    /**
+     * Test: Cada pool publica sus métricas con su nombre
+     */
+    @Test
+    @DisplayName("GET /actuator/metrics/hikaricp.connections - Métricas del pool del primario y de la réplica")
+    void testPoolMetricsPerTarget() {
+        for (String pool : List.of("primario", "replica-1")) {
+            given()
+                .queryParam("tag", "pool:" + pool)
+            .when()
+                .get("/actuator/metrics/hikaricp.connections")
+            .then()
+                .statusCode(200);
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class AdjuntoWireMockStubs {
         
         stubGetAllAdjuntos(wireMockServer);
         stubGetAdjuntosByCandidatoId(wireMockServer);
+        stubGetAdjuntosByCandidatoIdsVacio(wireMockServer);
     }
 
     /**
@@ -178,4 +179,129 @@ public class AdjuntoWireMockStubs {
                     }
                     """.formatted(candidatoId, email, adjuntosJson.toString()))));
     }
+
+    /**
+     * Stub para la consulta por lotes cuando ningún candidato tiene adjuntos
+     */
+    public static void stubGetAdjuntosByCandidatoIdsVacio(WireMockExtension wireMockServer) {
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{}")));
+    }
+
+    /**
+     * Stub para la consulta por lotes: devuelve numAdjuntos adjuntos para el candidato indicado
+     */
+    public static void stubGetAdjuntosByCandidatoIds(WireMockExtension wireMockServer, Integer candidatoId, int numAdjuntos) {
+        StringBuilder adjuntosJson = new StringBuilder();
+        for (int i = 1; i <= numAdjuntos; i++) {
+            if (i > 1) adjuntosJson.append(",\n");
+            adjuntosJson.append("""
+                            {
+                                "id": %d,
+                                "candidatoId": %d,
+                                "extension": "pdf",
+                                "nombreArchivo": "documento_%d.pdf"
+                            }""".formatted(i, candidatoId, i));
+        }
+
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .withRequestBody(matchingJsonPath("$[?(@ == %d)]".formatted(candidatoId)))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {
+                        "%d": [
+                    %s
+                        ]
+                    }
+                    """.formatted(candidatoId, adjuntosJson.toString()))));
+    }
+
+    /**
+     * Stub con la respuesta real del servicio de adjuntos (una lista) para un candidato,
+     * con un retardo opcional en milisegundos para simular un servicio lento.
+     * Responde también a la consulta por lotes que incluya al candidato.
+     */
+    public static void stubListaAdjuntosForCandidato(WireMockExtension wireMockServer, Integer candidatoId, int numAdjuntos, int delayMs) {
+        StringBuilder adjuntosJson = new StringBuilder();
+        for (int i = 1; i <= numAdjuntos; i++) {
+            if (i > 1) adjuntosJson.append(",\n");
+            adjuntosJson.append("""
+                    {
+                        "id": %d,
+                        "candidatoId": %d,
+                        "extension": "pdf",
+                        "nombreArchivo": "documento_%d.pdf"
+                    }""".formatted(i, candidatoId, i));
+        }
+
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/adjuntos/candidato/" + candidatoId))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(delayMs)
+                .withHeader("Content-Type", "application/json")
+                .withBody("[\n" + adjuntosJson + "\n]")));
+
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .withRequestBody(matchingJsonPath("$[?(@ == %d)]".formatted(candidatoId)))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(delayMs)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"%d\": [\n%s\n]}".formatted(candidatoId, adjuntosJson))));
+    }
+
+    /**
+     * Stub con un error interno del servicio de adjuntos para un candidato,
+     * también en la consulta por lotes que lo incluya
+     */
+    public static void stubErrorAdjuntosForCandidato(WireMockExtension wireMockServer, Integer candidatoId) {
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/adjuntos/candidato/" + candidatoId))
+            .willReturn(aResponse()
+                .withStatus(500)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"message\": \"Error interno\"}")));
+
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .withRequestBody(matchingJsonPath("$[?(@ == %d)]".formatted(candidatoId)))
+            .willReturn(aResponse()
+                .withStatus(500)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"message\": \"Error interno\"}")));
+    }
+
+    /**
+     * Stub con un error interno del servicio de adjuntos en la consulta por lotes
+     */
+    public static void stubErrorAdjuntosByCandidatoIds(WireMockExtension wireMockServer) {
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/adjuntos/candidatos"))
+            .willReturn(aResponse()
+                .withStatus(500)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"message\": \"Error interno\"}")));
+    }
+
+    /**
+     * Stub para eliminar los adjuntos de un candidato
+     */
+    public static void stubEliminarAdjuntosForCandidato(WireMockExtension wireMockServer, Integer candidatoId) {
+        wireMockServer.stubFor(delete(urlEqualTo("/api/v1/adjuntos/candidato/" + candidatoId))
+            .willReturn(aResponse()
+                .withStatus(204)));
+    }
+
+    /**
+     * Stub con un error interno del servicio de adjuntos al eliminar los adjuntos de un candidato
+     */
+    public static void stubErrorEliminarAdjuntosForCandidato(WireMockExtension wireMockServer, Integer candidatoId) {
+        wireMockServer.stubFor(delete(urlEqualTo("/api/v1/adjuntos/candidato/" + candidatoId))
+            .willReturn(aResponse()
+                .withStatus(500)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"message\": \"Error interno\"}")));
+    }
 }
@@ -0,0 +1,51 @@
+package com.eureka.common.cache;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Caché de segundo nivel de Hibernate sobre JCache con Caffeine. Las regiones son los {@link HibernateCacheRegion}
+ * que declara cada servicio, con su tamaño máximo y su expiración, y Hibernate no arranca si una entidad o consulta
+ * usa una región que no existe ({@code missing_cache_strategy=fail}).
+ * Aciertos, fallos y escrituras por región en {@code hibernate.second.level.cache.*} y {@code hibernate.cache.query.*};
+ * desalojos en {@code cache.evictions} con la etiqueta {@code cache.manager=hibernate}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class HibernateCacheManagerConfig {
+
+    @Bean
+    public CacheManager hibernateCacheManager(List<HibernateCacheRegion> regiones) {
+        // Una URI por contexto: los contextos de los tests no comparten regiones
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        regiones.forEach(region -> cacheManager.createCache(region.nombre(), region.configuracion()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> hibernateCacheManager.getCacheNames().forEach(name ->
+            new JCacheMetrics<>(hibernateCacheManager.getCache(name), Tags.of("cache.manager", "hibernate"))
+                .bindTo(registry));
+    }
+}
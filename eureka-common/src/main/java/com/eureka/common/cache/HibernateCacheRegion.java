@@ -0,0 +1,47 @@
+package com.eureka.common.cache;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+/**
+ * Región de la caché de segundo nivel de Hibernate. Cada servicio declara las suyas como beans y
+ * {@link HibernateCacheManagerConfig} las crea al arrancar.
+ *
+ * @param nombre nombre de la región, el de {@code @Cache(region = ...)} o la sugerencia de la consulta
+ * @param maxSize entradas antes de desalojar las menos usadas (W-TinyLFU); 0 sin límite
+ * @param ttl expiración desde que se escribe la entrada; 0 sin expiración
+ * @param inactividad expiración desde el último acceso; 0 sin expiración
+ */
+public record HibernateCacheRegion(String nombre, long maxSize, Duration ttl, Duration inactividad) {
+
+    /**
+     * Región sin desalojo ni expiración, como la de las marcas de tiempo de las tablas.
+     */
+    public static HibernateCacheRegion sinLimite(String nombre) {
+        return new HibernateCacheRegion(nombre, 0, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * La misma configuración para otra región.
+     */
+    public HibernateCacheRegion conNombre(String otroNombre) {
+        return new HibernateCacheRegion(otroNombre, maxSize, ttl, inactividad);
+    }
+
+    CaffeineConfiguration<Object, Object> configuracion() {
+        CaffeineConfiguration<Object, Object> region = new CaffeineConfiguration<>();
+        // Hibernate ya guarda una copia desensamblada de la entidad; sin serializarla otra vez
+        region.setStoreByValue(false);
+        region.setStatisticsEnabled(true);
+        region.setMaximumSize(maxSize > 0 ? OptionalLong.of(maxSize) : OptionalLong.empty());
+        region.setExpireAfterWrite(nanos(ttl));
+        region.setExpireAfterAccess(nanos(inactividad));
+        return region;
+    }
+
+    private static OptionalLong nanos(Duration duracion) {
+        return duracion.isZero() ? OptionalLong.empty() : OptionalLong.of(duracion.toNanos());
+    }
+}
@@ -0,0 +1,48 @@
+package com.eureka.common.http;
+
+import java.util.stream.LongStream;
+
+/**
+ * ETags fuertes calculados a partir de la versión de la fila, sin mapear ni serializar el recurso. Común a todos los
+ * servicios, para que las variantes de candidatos den el mismo ETag al mismo recurso.
+ */
+public final class ETags {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETags() {
+    }
+
+    public static String version(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * ETag de un recurso compuesto: hash FNV-1a de 64 bits sobre las versiones o IDs que lo forman.
+     */
+    public static String hash(LongStream valores) {
+        long hash = valores.reduce(FNV_OFFSET, (acumulado, valor) -> {
+            for (int i = 0; i < Long.BYTES; i++) {
+                acumulado = (acumulado ^ ((valor >>> (i * 8)) & 0xff)) * FNV_PRIME;
+            }
+            return acumulado;
+        });
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Evalúa la cabecera If-Match con comparación fuerte. Sin cabecera la condición se cumple.
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        if (ifMatch == null) {
+            return true;
+        }
+        for (String valor : ifMatch.split(",")) {
+            String tag = valor.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.eureka.common.replicas;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Las transacciones que leen de una réplica consultan la caché de segundo nivel y la de consultas, pero no las
+ * llenan: una réplica retrasada guardaría en ellas filas ya modificadas o borradas, y el resto de lecturas,
+ * también las del primario, las devolverían hasta que expiren. Las cachés se llenan solo con lo leído del primario
+ * (las transacciones de escritura y las de {@link LecturaTrasEscritura#enPrimario(java.util.function.Supplier)}).
+ */
+public class CacheSoloDelPrimario implements TransactionExecutionListener {
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public CacheSoloDelPrimario(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isReadOnly() || LecturaTrasEscritura.enPrimario()) {
+            return;
+        }
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null
+                || !(TransactionSynchronizationManager.getResource(factory) instanceof EntityManagerHolder holder)) {
+            return;
+        }
+        // Con open-in-view la sesión sigue abierta tras la transacción: se restaura su modo al terminar
+        Session session = holder.getEntityManager().unwrap(Session.class);
+        CacheMode anterior = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                session.setCacheMode(anterior);
+            }
+        });
+    }
+}
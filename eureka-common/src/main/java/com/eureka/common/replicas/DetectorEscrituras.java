@@ -0,0 +1,58 @@
+package com.eureka.common.replicas;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Avisa a la petición en curso ({@link LecturaTrasEscritura}) cuando confirma una escritura. Como
+ * {@link StatementInspector} de Hibernate ve cada INSERT, UPDATE y DELETE, también los masivos y los nativos; el aviso
+ * llega al confirmar su transacción, o en el momento si no hay. Las transacciones que solo leen, aunque no sean de
+ * solo lectura, no avisan, y las escrituras fuera de una petición (tareas programadas, outbox) tampoco.
+ */
+public class DetectorEscrituras implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        if (esEscritura(sql)) {
+            LecturaTrasEscritura.Contexto contexto = LecturaTrasEscritura.actual();
+            if (contexto != null) {
+                avisarAlConfirmar(contexto);
+            }
+        }
+        return sql;
+    }
+
+    private void avisarAlConfirmar(LecturaTrasEscritura.Contexto contexto) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            contexto.escrita();
+            return;
+        }
+        // Una sola sincronización por transacción, aunque escriba muchas filas
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, contexto);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                contexto.escribiendo();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DetectorEscrituras.this);
+                if (status == STATUS_COMMITTED) {
+                    contexto.escrita();
+                }
+            }
+        });
+    }
+
+    private static boolean esEscritura(String sql) {
+        String sentencia = sql.stripLeading();
+        return sentencia.regionMatches(true, 0, "insert", 0, 6)
+            || sentencia.regionMatches(true, 0, "update", 0, 6)
+            || sentencia.regionMatches(true, 0, "delete", 0, 6);
+    }
+}
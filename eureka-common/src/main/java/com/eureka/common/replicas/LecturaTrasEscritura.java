@@ -0,0 +1,88 @@
+package com.eureka.common.replicas;
+
+import java.util.function.Supplier;
+
+import io.micrometer.context.ContextRegistry;
+
+/**
+ * Lecturas que van al primario aunque su transacción sea de solo lectura, para no leer de una réplica que aún no
+ * tiene un cambio: las del cliente que acaba de escribir ({@link LecturaTrasEscrituraFilter}) y las que recargan
+ * estructuras en memoria con los cambios ({@link #enPrimario(Supplier)}). El resto de clientes y de hilos siguen
+ * leyendo de las réplicas. El estado es del hilo y pasa a las tareas de los executors con contexto.
+ */
+public final class LecturaTrasEscritura {
+    private static final ThreadLocal<Contexto> ACTUAL = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor("lectura-tras-escritura", ACTUAL);
+    }
+
+    private LecturaTrasEscritura() {
+    }
+
+    public static boolean enPrimario() {
+        Contexto contexto = ACTUAL.get();
+        return contexto != null && contexto.primario;
+    }
+
+    /**
+     * Ejecuta {@code lecturas} con sus transacciones de solo lectura en el primario. Solo afecta a las transacciones
+     * que empiezan dentro: una que ya está en curso conserva su conexión.
+     */
+    public static <T> T enPrimario(Supplier<T> lecturas) {
+        Contexto anterior = ACTUAL.get();
+        ACTUAL.set(new Contexto(true, anterior != null ? anterior.alEscribir : null));
+        try {
+            return lecturas.get();
+        } finally {
+            restaurar(anterior);
+        }
+    }
+
+    static Contexto actual() {
+        return ACTUAL.get();
+    }
+
+    /**
+     * @return el contexto anterior, para {@link #restaurar(Contexto)}
+     */
+    static Contexto abrir(Contexto contexto) {
+        Contexto anterior = ACTUAL.get();
+        ACTUAL.set(contexto);
+        return anterior;
+    }
+
+    static void restaurar(Contexto anterior) {
+        if (anterior != null) {
+            ACTUAL.set(anterior);
+        } else {
+            ACTUAL.remove();
+        }
+    }
+
+    /**
+     * Estado de la petición en curso: si sus lecturas van al primario y qué hacer cuando confirma una escritura.
+     */
+    static final class Contexto {
+        private volatile boolean primario;
+        private final Runnable alEscribir;
+
+        Contexto(boolean primario, Runnable alEscribir) {
+            this.primario = primario;
+            this.alEscribir = alEscribir;
+        }
+
+        /** Antes de confirmar: los listeners de después de confirmar ya leen del primario. */
+        void escribiendo() {
+            primario = true;
+        }
+
+        /** Escritura confirmada: el resto de la petición lee del primario y se anota para las siguientes. */
+        void escrita() {
+            primario = true;
+            if (alEscribir != null) {
+                alEscribir.run();
+            }
+        }
+    }
+}
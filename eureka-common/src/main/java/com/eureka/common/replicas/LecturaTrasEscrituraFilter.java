@@ -0,0 +1,83 @@
+package com.eureka.common.replicas;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Lectura tras escritura por cliente. Cuando una petición confirma una escritura, la respuesta lleva la cookie
+ * {@value #COOKIE} con el instante de la escritura. Las peticiones que la traen leen del primario mientras no haya
+ * pasado {@code ventana} desde ese instante, en cualquier instancia. El resto de clientes no se ven afectados.
+ */
+public class LecturaTrasEscrituraFilter extends OncePerRequestFilter {
+    public static final String COOKIE = "lectura-primario";
+
+    private final Duration ventana;
+
+    public LecturaTrasEscrituraFilter(Duration ventana) {
+        this.ventana = ventana;
+    }
+
+    /** Con ventana 0 no hay lectura tras escritura. */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return ventana.isZero();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LecturaTrasEscritura.Contexto anterior = LecturaTrasEscritura.abrir(
+            new LecturaTrasEscritura.Contexto(escrituraReciente(request), () -> anotarEscritura(response)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            LecturaTrasEscritura.restaurar(anterior);
+        }
+    }
+
+    private boolean escrituraReciente(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            return System.currentTimeMillis() - Long.parseLong(cookie.getValue()) < ventana.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Si la petición escribe varias veces, la cookie lleva la última escritura: se sustituye la anterior, conservando
+     * el resto de cookies de la respuesta.
+     */
+    private void anotarEscritura(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        String cookie = ResponseCookie.from(COOKIE, Long.toString(System.currentTimeMillis()))
+            .path("/")
+            .maxAge(Duration.ofSeconds(ventana.toSeconds() + 1))
+            .httpOnly(true)
+            .sameSite("Lax")
+            .build()
+            .toString();
+        List<String> otras = response.getHeaders(HttpHeaders.SET_COOKIE).stream()
+            .filter(valor -> !valor.startsWith(COOKIE + "="))
+            .toList();
+        response.setHeader(HttpHeaders.SET_COOKIE, cookie);
+        otras.forEach(valor -> response.addHeader(HttpHeaders.SET_COOKIE, valor));
+    }
+}
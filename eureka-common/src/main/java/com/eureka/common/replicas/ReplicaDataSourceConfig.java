@@ -0,0 +1,109 @@
+package com.eureka.common.replicas;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Réplicas de lectura de MySQL. Con {@code datasource.replicas.urls} ({@code DATASOURCE_REPLICAS_URLS}) las
+ * transacciones de solo lectura van a las réplicas y el resto al primario (ver {@link ReplicaRoutingDataSource}).
+ * Cada base de datos tiene su pool de Hikari, con la configuración de {@code spring.datasource.hikari.*}, y sus
+ * métricas {@code hikaricp.connections.*} con la etiqueta {@code pool=primario} o {@code pool=replica-N}. Lo que
+ * se lee de las réplicas no se guarda en las cachés de Hibernate ({@link CacheSoloDelPrimario}).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("datasource.replicas.urls")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public LecturaTrasEscrituraFilter lecturaTrasEscrituraFilter(
+            @Value("${datasource.replicas.lectura-tras-escritura:2s}") Duration ventana) {
+        return new LecturaTrasEscrituraFilter(ventana);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(
+            DataSourceProperties properties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment,
+            @Value("${datasource.replicas.urls}") List<String> urls,
+            @Value("${datasource.replicas.username}") String username,
+            @Value("${datasource.replicas.password}") String password,
+            @Value("${datasource.replicas.maximum-pool-size:0}") int maximumPoolSize) {
+        HikariDataSource primario = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        JdbcConnectionDetails detalles = connectionDetails.getIfAvailable();
+        if (detalles != null) {
+            primario.setJdbcUrl(detalles.getJdbcUrl());
+            primario.setUsername(detalles.getUsername());
+            primario.setPassword(detalles.getPassword());
+            primario.setDriverClassName(detalles.getDriverClassName());
+        }
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primario));
+        primario.setPoolName("primario");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            primario.copyStateTo(replica);
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.strip());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            if (maximumPoolSize > 0) {
+                replica.setMaximumPoolSize(maximumPoolSize);
+            }
+            replicas.add(replica);
+        }
+
+        meterRegistry.ifAvailable(registry -> {
+            primario.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replicas.forEach(replica -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        });
+        return new ReplicaRoutingDataSource(primario, replicas);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource.SoloLecturaAlEmpezar soloLecturaAlEmpezar() {
+        return new ReplicaRoutingDataSource.SoloLecturaAlEmpezar();
+    }
+
+    @Bean
+    public CacheSoloDelPrimario cacheSoloDelPrimario(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new CacheSoloDelPrimario(entityManagerFactory);
+    }
+
+    /**
+     * Con open-in-view la sesión de Hibernate dura toda la petición y, por defecto, conserva la primera conexión
+     * que obtiene: una escritura posterior a una lectura iría a la réplica. Se libera al terminar cada transacción
+     * para que cada una obtenga la suya.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new DetectorEscrituras());
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.eureka.common.replicas;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a las réplicas, por turnos, y el resto al primario.
+ * De solo lectura son los métodos {@code @Transactional(readOnly = true)} y las consultas de los repositorios
+ * llamadas fuera de una transacción. Las de un hilo con {@link LecturaTrasEscritura#enPrimario()} van al primario.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private static final String PRIMARIO = "primario";
+
+    private final HikariDataSource primario;
+    private final List<HikariDataSource> replicas;
+    private final AtomicInteger turno = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primario, List<HikariDataSource> replicas) {
+        this.primario = primario;
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIO, primario);
+        for (int i = 0; i < replicas.size(); i++) {
+            destinos.put(i, replicas.get(i));
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || LecturaTrasEscritura.enPrimario()) {
+            return PRIMARIO;
+        }
+        return Math.floorMod(turno.getAndIncrement(), replicas.size());
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primario.close();
+    }
+
+    /**
+     * Spring marca la transacción como de solo lectura después de obtener su conexión, y esta no puede pedirse
+     * más tarde: la instrumentación de JDBC consulta los metadatos de la conexión en cuanto se obtiene. La marca
+     * se adelanta a antes de empezar la transacción para que la conexión salga ya de la réplica.
+     */
+    public static class SoloLecturaAlEmpezar implements TransactionExecutionListener {
+
+        @Override
+        public void beforeBegin(TransactionExecution transaction) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(transaction.isReadOnly());
+        }
+
+        @Override
+        public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+            if (beginFailure != null) {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        }
+    }
+}
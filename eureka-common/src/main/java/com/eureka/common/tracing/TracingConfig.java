@@ -0,0 +1,28 @@
+package com.eureka.common.tracing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exportación de las trazas. Con {@code tracing.export.file} ({@code TRACING_EXPORT_FILE}) los spans se escriben
+ * en ese fichero; Spring Boot envía a cualquier {@code SpanExporter} declarado los spans muestreados según
+ * {@code management.tracing.sampling.probability}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty("tracing.export.file")
+    public FileSpanExporter fileSpanExporter(
+            @Value("${tracing.export.file}") Path archivo,
+            ObjectMapper objectMapper) throws IOException {
+        return new FileSpanExporter(archivo, objectMapper);
+    }
+}
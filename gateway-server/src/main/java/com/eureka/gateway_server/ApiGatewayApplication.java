@@ -6,7 +6,7 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 
 @EnableDiscoveryClient
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.eureka.gateway_server", "com.eureka.common"})
 public class ApiGatewayApplication {
 
 	public static void main(String[] args) {
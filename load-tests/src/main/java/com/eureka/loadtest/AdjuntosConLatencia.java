@@ -0,0 +1,57 @@
+package com.eureka.loadtest;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import java.time.Duration;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+
+/**
+ * Intermediario de WireMock entre candidato-service y adjunto-service que retrasa cada respuesta, para probar el
+ * comportamiento con una dependencia lenta (plazos, bulkhead y circuit breaker de {@code AdjuntoFeignClient}). Como
+ * {@code AdjuntoWireMockStubs} en los tests de candidatos-service, con {@code withFixedDelay} o con
+ * {@code withLogNormalRandomDelay}, pero las respuestas son las del adjunto-service real.
+ */
+public final class AdjuntosConLatencia implements AutoCloseable {
+    private final WireMockServer wireMockServer;
+
+    private AdjuntosConLatencia(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
+    }
+
+    /**
+     * Arranca el intermediario en un puerto libre hacia el adjunto-service de {@code adjuntosUrl}. Con
+     * {@code sigma} mayor que 0 la latencia sigue una distribución log-normal con mediana {@code latencia}, que
+     * reproduce mejor que una latencia fija las colas largas de un servicio real.
+     */
+    public static AdjuntosConLatencia arrancar(String adjuntosUrl, Duration latencia, double sigma) {
+        WireMockServer wireMockServer = new WireMockServer(options()
+            .dynamicPort()
+            .containerThreads(200)
+            .jettyAcceptors(2)
+            .disableRequestJournal());
+        wireMockServer.start();
+
+        ResponseDefinitionBuilder respuesta = aResponse().proxiedFrom(adjuntosUrl);
+        if (sigma > 0) {
+            respuesta.withLogNormalRandomDelay(latencia.toMillis(), sigma);
+        } else {
+            respuesta.withFixedDelay((int) latencia.toMillis());
+        }
+        wireMockServer.stubFor(any(anyUrl()).willReturn(respuesta));
+        return new AdjuntosConLatencia(wireMockServer);
+    }
+
+    public String url() {
+        return "http://localhost:" + wireMockServer.port();
+    }
+
+    @Override
+    public void close() {
+        wireMockServer.stop();
+    }
+}
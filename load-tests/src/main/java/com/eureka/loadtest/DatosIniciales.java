@@ -0,0 +1,118 @@
+package com.eureka.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Tablas y datos de partida de la prueba, cargados por JDBC antes de arrancar los servicios para que la caché y el
+ * filtro de emails de candidato-service partan de los mismos datos que en producción.
+ */
+public final class DatosIniciales {
+    private static final int LOTE = 1000;
+    private static final String[] APELLIDOS = {"García", "Rodríguez", "González", "Fernández", "López", "Martínez",
+        "Sánchez", "Pérez", "Gómez", "Martín"};
+    private static final String[] EXTENSIONES = {"pdf", "docx", "jpg", "png"};
+
+    private DatosIniciales() {
+    }
+
+    /**
+     * Ejecuta el {@code schema.sql} de candidatos-service, que crea las tablas de los dos servicios si no existen.
+     */
+    public static void crearEsquema(Connection connection, Path schema) throws IOException, SQLException {
+        String script = Files.readAllLines(schema).stream()
+            .filter(linea -> !linea.trim().startsWith("--"))
+            .collect(Collectors.joining("\n"));
+        try (Statement statement = connection.createStatement()) {
+            for (String sentencia : script.split(";")) {
+                if (!sentencia.isBlank()) {
+                    statement.execute(sentencia);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserta {@code candidatos} candidatos, con {@code adjuntosPorCandidato} adjuntos cada uno. Los emails llevan el
+     * prefijo indicado para no coincidir con los de otras ejecuciones sobre la misma base de datos.
+     */
+    public static void cargar(Connection connection, String prefijo, int candidatos, int adjuntosPorCandidato)
+            throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement candidato = connection.prepareStatement("""
+                INSERT INTO candidatos (nombre, apellidos, email, telefono, tipo_documento, numero_documento, genero,
+                    lugar_nacimiento, fecha_nacimiento, direccion, codigo_postal, pais, localizacion,
+                    disponibilidad_desde, disponibilidad_hasta)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""", Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement adjunto = connection.prepareStatement(
+                "INSERT INTO adjuntos (extension, nombre_archivo, candidato_id) VALUES (?, ?, ?)")) {
+            LocalDate hoy = LocalDate.now();
+            for (int inicio = 0; inicio < candidatos; inicio += LOTE) {
+                int fin = Math.min(inicio + LOTE, candidatos);
+                for (int i = inicio; i < fin; i++) {
+                    candidato.setString(1, "Candidato " + i);
+                    candidato.setString(2, APELLIDOS[i % APELLIDOS.length] + " " + i);
+                    candidato.setString(3, prefijo + "-" + i + "@carga.example.com");
+                    candidato.setString(4, "+569" + String.format("%08d", i % 100_000_000));
+                    candidato.setString(5, "RUT");
+                    candidato.setString(6, String.valueOf(10_000_000 + i));
+                    candidato.setString(7, i % 2 == 0 ? "Femenino" : "Masculino");
+                    candidato.setString(8, "Santiago");
+                    candidato.setDate(9, Date.valueOf(LocalDate.of(1970 + i % 35, 1 + i % 12, 1 + i % 28)));
+                    candidato.setString(10, "Calle " + i);
+                    candidato.setString(11, "8320000");
+                    candidato.setString(12, "Chile");
+                    candidato.setString(13, "Santiago");
+                    candidato.setDate(14, Date.valueOf(hoy.plusDays(i % 90)));
+                    candidato.setDate(15, Date.valueOf(hoy.plusDays(90 + i % 180)));
+                    candidato.addBatch();
+                }
+                candidato.executeBatch();
+                try (ResultSet ids = candidato.getGeneratedKeys()) {
+                    while (ids.next()) {
+                        int candidatoId = ids.getInt(1);
+                        for (int j = 0; j < adjuntosPorCandidato; j++) {
+                            String extension = EXTENSIONES[j % EXTENSIONES.length];
+                            adjunto.setString(1, extension);
+                            adjunto.setString(2, "documento_" + candidatoId + "_" + j + "." + extension);
+                            adjunto.setInt(3, candidatoId);
+                            adjunto.addBatch();
+                        }
+                    }
+                }
+                adjunto.executeBatch();
+                connection.commit();
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * IDs de todos los candidatos de la base de datos, cargados en esta ejecución o no.
+     */
+    public static int[] idsCandidatos(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id FROM candidatos ORDER BY id")) {
+            int[] ids = new int[1024];
+            int total = 0;
+            while (resultSet.next()) {
+                if (total == ids.length) {
+                    ids = Arrays.copyOf(ids, total * 2);
+                }
+                ids[total++] = resultSet.getInt(1);
+            }
+            return Arrays.copyOf(ids, total);
+        }
+    }
+}
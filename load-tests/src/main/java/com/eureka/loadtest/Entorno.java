@@ -0,0 +1,202 @@
+package com.eureka.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Base de datos con los datos de partida y servicios a los que se lanza la carga: eureka-server, adjunto-service,
+ * candidato-service y el gateway en los puertos de producción (8761, 8081, 8080 y 8090), o un entorno ya levantado si
+ * se indica {@code load.gateway.url}.
+ */
+public final class Entorno implements AutoCloseable {
+    private static final String GATEWAY_URL = "http://localhost:8090";
+    private static final String EUREKA_URL = "http://localhost:8761/eureka/";
+    private static final Duration REGISTRO_MAXIMO = Duration.ofMinutes(2);
+
+    private final String gatewayUrl;
+    private final int[] idsCandidatos;
+    private final Deque<AutoCloseable> recursos;
+
+    private Entorno(String gatewayUrl, int[] idsCandidatos, Deque<AutoCloseable> recursos) {
+        this.gatewayUrl = gatewayUrl;
+        this.idsCandidatos = idsCandidatos;
+        this.recursos = recursos;
+    }
+
+    public static Entorno levantar(LoadTestConfig config) throws Exception {
+        Deque<AutoCloseable> recursos = new ArrayDeque<>();
+        try {
+            BaseDatos baseDatos = baseDatos(config, recursos);
+            int[] ids = cargarDatos(config, baseDatos);
+            if (config.entornoExterno()) {
+                return new Entorno(config.gatewayUrl(), ids, recursos);
+            }
+            arrancarServicios(config, baseDatos, recursos);
+            esperarRegistro(config, ids[ids.length - 1]);
+            return new Entorno(GATEWAY_URL, ids, recursos);
+        } catch (Exception e) {
+            cerrar(recursos);
+            throw e;
+        }
+    }
+
+    private record BaseDatos(String url, String username, String password) {
+    }
+
+    private static BaseDatos baseDatos(LoadTestConfig config, Deque<AutoCloseable> recursos) {
+        if (config.datasourceUrl() != null && !config.datasourceUrl().isBlank()) {
+            return new BaseDatos(config.datasourceUrl(), config.datasourceUsername(), config.datasourcePassword());
+        }
+        if (config.entornoExterno()) {
+            throw new IllegalArgumentException(
+                "Con load.gateway.url hay que indicar la base de datos del entorno en load.datasource.url");
+        }
+        MySQLContainer<?> mysql = new MySQLContainer<>(config.imagenMysql())
+            .withDatabaseName("eureka-project-db")
+            .withUsername("root")
+            .withPassword("root")
+            .withUrlParam("serverTimezone", "UTC");
+        mysql.start();
+        recursos.push(mysql);
+        return new BaseDatos(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+    }
+
+    private static int[] cargarDatos(LoadTestConfig config, BaseDatos baseDatos) throws IOException, SQLException {
+        Properties propiedades = new Properties();
+        propiedades.setProperty("user", baseDatos.username());
+        propiedades.setProperty("password", baseDatos.password());
+        propiedades.setProperty("rewriteBatchedStatements", "true");
+        try (Connection connection = DriverManager.getConnection(baseDatos.url(), propiedades)) {
+            DatosIniciales.crearEsquema(connection,
+                config.proyecto().resolve("candidatos-service/src/main/resources/schema.sql"));
+            DatosIniciales.cargar(connection, "carga-" + Instant.now().getEpochSecond(),
+                config.candidatos(), config.adjuntosPorCandidato());
+            int[] ids = DatosIniciales.idsCandidatos(connection);
+            if (ids.length == 0) {
+                throw new IllegalArgumentException("No hay candidatos en la base de datos: load.candidatos debe ser "
+                    + "mayor que 0");
+            }
+            return ids;
+        }
+    }
+
+    private static void arrancarServicios(LoadTestConfig config, BaseDatos baseDatos, Deque<AutoCloseable> recursos)
+            throws Exception {
+        recursos.push(ProcesoServicio.arrancar(config, "eureka-server", 8761, List.of(
+            // Registro visible para los clientes en cuanto se registra cada servicio
+            "--eureka.server.response-cache-update-interval-ms=1000")));
+
+        List<String> servicio = new ArrayList<>(List.of(
+            "--spring.datasource.url=" + baseDatos.url(),
+            "--spring.datasource.username=" + baseDatos.username(),
+            "--spring.datasource.password=" + baseDatos.password(),
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.show-sql=false"));
+        servicio.addAll(clienteEureka());
+
+        recursos.push(ProcesoServicio.arrancar(config, "adjuntos-service", 8081, servicio));
+
+        List<String> candidatos = new ArrayList<>(servicio);
+        if (config.latenciaEnAdjuntos()) {
+            AdjuntosConLatencia adjuntosConLatencia = AdjuntosConLatencia.arrancar("http://localhost:8081",
+                config.latenciaAdjuntos(), config.sigmaLatencia());
+            recursos.push(adjuntosConLatencia);
+            candidatos.add("--adjunto-service.url=" + adjuntosConLatencia.url());
+        }
+        recursos.push(ProcesoServicio.arrancar(config, "candidatos-service", 8080, candidatos));
+
+        List<String> gateway = new ArrayList<>(clienteEureka());
+        // El DEBUG de application.properties escribe varias líneas por petición
+        gateway.add("--logging.level.org.springframework.cloud.gateway=INFO");
+        gateway.add("--logging.level.reactor.netty=INFO");
+        recursos.push(ProcesoServicio.arrancar(config, "gateway-server", 8090, gateway));
+    }
+
+    /**
+     * Registro en Eureka y refresco de las instancias cada 5s (30s por defecto), para no esperar minutos a que el
+     * gateway y candidato-service vean al resto de servicios.
+     */
+    private static List<String> clienteEureka() {
+        return List.of(
+            "--eureka.client.service-url.defaultZone=" + EUREKA_URL,
+            "--eureka.client.registry-fetch-interval-seconds=5",
+            "--eureka.client.initial-instance-info-replication-interval-seconds=5",
+            "--eureka.instance.lease-renewal-interval-in-seconds=5",
+            "--spring.cloud.loadbalancer.cache.ttl=5s");
+    }
+
+    /**
+     * Espera a que el gateway enrute a los dos servicios y a que candidato-service obtenga los adjuntos de
+     * adjunto-service, que sin instancias registradas responde el candidato sin adjuntos.
+     */
+    private static void esperarRegistro(LoadTestConfig config, int candidatoId)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest adjuntos = HttpRequest.newBuilder(
+                URI.create(GATEWAY_URL + "/api/v1/adjuntos/candidato/" + candidatoId))
+            .timeout(Duration.ofSeconds(5))
+            .build();
+        HttpRequest candidatoConAdjuntos = HttpRequest.newBuilder(
+                URI.create(GATEWAY_URL + "/api/v1/candidatos/" + candidatoId + "/adjuntos"))
+            .timeout(Duration.ofSeconds(5))
+            .build();
+        Instant limite = Instant.now().plus(REGISTRO_MAXIMO);
+        while (Instant.now().isBefore(limite)) {
+            try {
+                HttpResponse<String> respuestaAdjuntos = client.send(adjuntos, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> respuestaCandidato = client.send(candidatoConAdjuntos,
+                    HttpResponse.BodyHandlers.ofString());
+                // adjunto-service responde 404 a un candidato sin adjuntos; el gateway sin instancias, 503
+                boolean rutaAdjuntos = respuestaAdjuntos.statusCode() == 200 || respuestaAdjuntos.statusCode() == 404;
+                if (rutaAdjuntos && respuestaCandidato.statusCode() == 200
+                        && (config.adjuntosPorCandidato() == 0
+                            || respuestaCandidato.body().contains("nombreArchivo"))) {
+                    return;
+                }
+            } catch (IOException e) {
+                // El gateway todavía no tiene la ruta
+            }
+            Thread.sleep(2000);
+        }
+        throw new IllegalStateException("Los servicios no se han registrado en Eureka en "
+            + REGISTRO_MAXIMO.toSeconds() + "s. Salida de cada servicio en " + config.logs());
+    }
+
+    public String gatewayUrl() {
+        return gatewayUrl;
+    }
+
+    public int[] idsCandidatos() {
+        return idsCandidatos;
+    }
+
+    @Override
+    public void close() {
+        cerrar(recursos);
+    }
+
+    private static void cerrar(Deque<AutoCloseable> recursos) {
+        while (!recursos.isEmpty()) {
+            try {
+                recursos.pop().close();
+            } catch (Exception e) {
+                System.err.println("Error al detener el entorno: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.eureka.loadtest;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Lanza la mezcla de operaciones contra el gateway a un ritmo fijo de peticiones por segundo (modelo abierto): cada
+ * petición sale en su instante programado aunque las anteriores no hayan respondido, como llegan las peticiones de
+ * usuarios independientes, así que unos servicios lentos no reducen la carga que reciben.
+ */
+public final class GeneradorCarga {
+    private static final String CANDIDATOS = "/api/v1/candidatos";
+
+    private final LoadTestConfig config;
+    private final String gatewayUrl;
+    private final IdsCandidatos ids;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String prefijoEmail = "carga-" + System.currentTimeMillis();
+    private final AtomicLong secuencia = new AtomicLong();
+
+    public GeneradorCarga(LoadTestConfig config, String gatewayUrl, IdsCandidatos ids) {
+        this.config = config;
+        this.gatewayUrl = gatewayUrl;
+        this.ids = ids;
+    }
+
+    /**
+     * Lanza la carga durante el calentamiento y la medición, y espera a que respondan las peticiones pendientes.
+     * Solo se registran las peticiones programadas dentro de la medición.
+     */
+    public Resultados ejecutar() throws InterruptedException {
+        Resultados resultados = new Resultados(config.mezcla().pesos().keySet());
+        Semaphore enVuelo = new Semaphore(config.maxEnVuelo());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                 .executor(executor)
+                 .version(HttpClient.Version.HTTP_1_1)
+                 .connectTimeout(Duration.ofSeconds(5))
+                 .build()) {
+
+            long inicio = System.nanoTime();
+            long inicioMedicion = inicio + config.calentamiento().toNanos();
+            long fin = inicioMedicion + config.duracion().toNanos();
+            double intervalo = 1_000_000_000.0 / config.rps();
+            for (long n = 0; ; n++) {
+                long programado = inicio + (long) (n * intervalo);
+                if (programado >= fin) {
+                    break;
+                }
+                esperarHasta(programado);
+                lanzar(client, enVuelo, resultados, config.mezcla().siguiente(), programado,
+                    programado >= inicioMedicion);
+            }
+
+            long esperaMaxima = config.timeout().toSeconds() + 5;
+            if (!enVuelo.tryAcquire(config.maxEnVuelo(), esperaMaxima, TimeUnit.SECONDS)) {
+                System.err.println("Quedan peticiones sin respuesta tras " + esperaMaxima + "s");
+            }
+        }
+        return resultados;
+    }
+
+    private static void esperarHasta(long instante) {
+        long espera;
+        while ((espera = instante - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(espera);
+        }
+    }
+
+    private void lanzar(HttpClient client, Semaphore enVuelo, Resultados resultados, Operacion operacion,
+            long programado, boolean medir) {
+        if (!enVuelo.tryAcquire()) {
+            if (medir) {
+                resultados.descartada(operacion);
+            }
+            return;
+        }
+        HttpRequest request = peticion(operacion);
+        if (request == null) {
+            enVuelo.release();
+            if (medir) {
+                resultados.omitida(operacion);
+            }
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            try {
+                long latencia = System.nanoTime() - programado;
+                if (response != null && operacion == Operacion.ALTA && response.statusCode() == 201) {
+                    registrarAlta(response.body());
+                }
+                if (medir) {
+                    if (response != null) {
+                        resultados.registrar(operacion, latencia, String.valueOf(response.statusCode()),
+                            response.statusCode() >= 400);
+                    } else {
+                        resultados.registrar(operacion, latencia, tipoError(error), true);
+                    }
+                }
+            } finally {
+                enVuelo.release();
+            }
+        });
+    }
+
+    private HttpRequest peticion(Operacion operacion) {
+        return switch (operacion) {
+            case LISTADO -> get(CANDIDATOS + "/pagina?size=20");
+            case DETALLE -> get(CANDIDATOS + "/" + ids.aleatorio() + "/adjuntos");
+            case ALTA -> builder(CANDIDATOS)
+                .POST(HttpRequest.BodyPublishers.ofString(candidato()))
+                .build();
+            case MODIFICACION -> builder(CANDIDATOS + "/" + ids.aleatorio())
+                .PUT(HttpRequest.BodyPublishers.ofString(candidato()))
+                .build();
+            case BAJA -> {
+                OptionalInt id = ids.paraBorrar();
+                yield id.isPresent() ? builder(CANDIDATOS + "/" + id.getAsInt()).DELETE().build() : null;
+            }
+        };
+    }
+
+    private HttpRequest get(String ruta) {
+        return builder(ruta).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String ruta) {
+        return HttpRequest.newBuilder(URI.create(gatewayUrl + ruta))
+            .timeout(config.timeout())
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json");
+    }
+
+    private String candidato() {
+        long numero = secuencia.incrementAndGet();
+        LocalDate hoy = LocalDate.now();
+        Map<String, Object> candidato = new LinkedHashMap<>();
+        candidato.put("nombre", "Carga " + numero);
+        candidato.put("apellidos", "Prueba " + numero);
+        candidato.put("email", prefijoEmail + "-" + numero + "@carga.example.com");
+        candidato.put("telefono", "+56911111111");
+        candidato.put("tipoDocumento", "RUT");
+        candidato.put("numeroDocumento", String.valueOf(20_000_000 + numero));
+        candidato.put("genero", "Femenino");
+        candidato.put("lugarNacimiento", "Valparaíso");
+        candidato.put("fechaNacimiento", "1990-05-15");
+        candidato.put("direccion", "Avenida " + numero);
+        candidato.put("codigoPostal", "2340000");
+        candidato.put("pais", "Chile");
+        candidato.put("localizacion", "Valparaíso");
+        candidato.put("disponibilidadDesde", hoy.toString());
+        candidato.put("disponibilidadHasta", hoy.plusMonths(6).toString());
+        try {
+            return objectMapper.writeValueAsString(candidato);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void registrarAlta(String body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            if (id != null && id.canConvertToInt()) {
+                ids.creado(id.asInt());
+            }
+        } catch (IOException e) {
+            // Sin el ID no se podrá borrar este candidato; la respuesta ya cuenta como correcta
+        }
+    }
+
+    private static String tipoError(Throwable error) {
+        Throwable causa = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (causa instanceof HttpTimeoutException) {
+            return "timeout";
+        }
+        if (causa instanceof ConnectException) {
+            return "conexion";
+        }
+        return causa.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,50 @@
+package com.eureka.loadtest;
+
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IDs de candidato existentes para las operaciones de la carga. Las bajas se llevan primero los candidatos dados de
+ * alta en la prueba y después los cargados, empezando por el final; las consultas y modificaciones eligen entre los
+ * cargados que no se van a borrar, dejando un margen para no coincidir con una baja en curso.
+ */
+public final class IdsCandidatos {
+    private static final int MARGEN_MAXIMO = 1000;
+
+    private final int[] cargados;
+    private final AtomicInteger sinBorrar;
+    private final int margen;
+    private final ConcurrentLinkedDeque<Integer> creados = new ConcurrentLinkedDeque<>();
+
+    public IdsCandidatos(int[] cargados) {
+        this.cargados = cargados;
+        this.sinBorrar = new AtomicInteger(cargados.length);
+        this.margen = Math.max(1, Math.min(MARGEN_MAXIMO, cargados.length / 10));
+    }
+
+    /**
+     * Un candidato que no se va a borrar durante la prueba.
+     */
+    public int aleatorio() {
+        int limite = Math.max(1, sinBorrar.get() - margen);
+        return cargados[ThreadLocalRandom.current().nextInt(limite)];
+    }
+
+    public void creado(int id) {
+        creados.addLast(id);
+    }
+
+    /**
+     * Un candidato para dar de baja, o vacío si ya solo quedan los del margen de consultas.
+     */
+    public OptionalInt paraBorrar() {
+        Integer creado = creados.pollFirst();
+        if (creado != null) {
+            return OptionalInt.of(creado);
+        }
+        int restantes = sinBorrar.getAndUpdate(n -> n > 2 * margen ? n - 1 : n);
+        return restantes > 2 * margen ? OptionalInt.of(cargados[restantes - 1]) : OptionalInt.empty();
+    }
+}
@@ -0,0 +1,42 @@
+package com.eureka.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Prueba de carga de extremo a extremo: levanta el entorno, lanza la mezcla de operaciones a través del gateway al
+ * ritmo indicado e informa del throughput, los percentiles de latencia y la tasa de error de cada operación.
+ *
+ * ./mvnw compile exec:java -Dload.rps=200 -Dload.duracion=2m -Dload.adjuntos.latencia=300ms
+ */
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.printf("Carga: %d req/s durante %ds (calentamiento %ds), mezcla %s%n", config.rps(),
+            config.duracion().toSeconds(), config.calentamiento().toSeconds(), config.mezcla());
+        System.out.printf("Datos: %d candidatos con %d adjuntos cada uno%s%n", config.candidatos(),
+            config.adjuntosPorCandidato(), config.latenciaEnAdjuntos()
+                ? ", latencia de adjunto-service " + config.latenciaAdjuntos().toMillis() + "ms"
+                : "");
+
+        Entorno entorno = Entorno.levantar(config);
+        // Con Ctrl+C también se detienen los servicios y el contenedor
+        Thread parada = new Thread(entorno::close);
+        Runtime.getRuntime().addShutdownHook(parada);
+        try {
+            System.out.println("Entorno listo en " + entorno.gatewayUrl() + ", lanzando la carga");
+            Resultados resultados = new GeneradorCarga(config, entorno.gatewayUrl(),
+                new IdsCandidatos(entorno.idsCandidatos())).ejecutar();
+
+            resultados.imprimir(System.out, config.duracion());
+            resultados.guardar(config.resultado(), config);
+            System.out.println("\nResultado guardado en " + config.resultado().toAbsolutePath());
+        } finally {
+            entorno.close();
+            Runtime.getRuntime().removeShutdownHook(parada);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.eureka.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Opciones de la prueba de carga, como propiedades del sistema {@code load.*} ({@code -Dload.rps=200}).
+ *
+ * @param proyecto            directorio raíz del proyecto, con los JAR de los servicios en {@code <servicio>/target}
+ * @param gatewayUrl          gateway de un entorno ya levantado (p. ej. con docker-compose); si se indica, no se
+ *                            arranca ningún servicio
+ * @param datasourceUrl       base de datos donde cargar los datos; sin ella se usa MySQL en un contenedor
+ * @param candidatos          candidatos que se cargan antes de la prueba
+ * @param adjuntosPorCandidato adjuntos que se cargan por cada candidato
+ * @param rps                 peticiones por segundo que se lanzan, respondan o no los servicios a ese ritmo
+ * @param duracion            duración de la medición
+ * @param calentamiento       duración de la carga previa a la medición, cuyos resultados se descartan
+ * @param mezcla              peso de cada operación en la carga
+ * @param maxEnVuelo          peticiones sin respuesta a partir de las cuales las nuevas no se envían y cuentan como
+ *                            error, para no saturar el propio generador de carga
+ * @param timeout             plazo de cada petición
+ * @param latenciaAdjuntos    latencia añadida a las respuestas de adjunto-service a candidato-service (0 sin latencia)
+ * @param sigmaLatencia       dispersión de la latencia añadida (distribución log-normal con mediana
+ *                            {@code latenciaAdjuntos}); 0 para una latencia fija
+ * @param jvmArgs             opciones de la JVM de cada servicio
+ * @param resultado           fichero JSON con el resultado
+ * @param logs                directorio con la salida de cada servicio
+ */
+public record LoadTestConfig(
+        Path proyecto,
+        String gatewayUrl,
+        String datasourceUrl,
+        String datasourceUsername,
+        String datasourcePassword,
+        String imagenMysql,
+        int candidatos,
+        int adjuntosPorCandidato,
+        int rps,
+        Duration duracion,
+        Duration calentamiento,
+        MezclaOperaciones mezcla,
+        int maxEnVuelo,
+        Duration timeout,
+        Duration latenciaAdjuntos,
+        double sigmaLatencia,
+        List<String> jvmArgs,
+        Path resultado,
+        Path logs) {
+
+    private static final Pattern DURACION = Pattern.compile("(\\d+)(ms|s|m|h)");
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            Path.of(System.getProperty("load.proyecto", "..")).toAbsolutePath().normalize(),
+            System.getProperty("load.gateway.url"),
+            System.getProperty("load.datasource.url"),
+            System.getProperty("load.datasource.username", "root"),
+            System.getProperty("load.datasource.password", ""),
+            System.getProperty("load.mysql.imagen", "mysql:8.0"),
+            Integer.parseInt(System.getProperty("load.candidatos", "10000")),
+            Integer.parseInt(System.getProperty("load.adjuntos-por-candidato", "3")),
+            Integer.parseInt(System.getProperty("load.rps", "100")),
+            duracion(System.getProperty("load.duracion", "60s")),
+            duracion(System.getProperty("load.calentamiento", "15s")),
+            MezclaOperaciones.parse(System.getProperty("load.mezcla",
+                "listado=25,detalle=50,alta=10,modificacion=10,baja=5")),
+            Integer.parseInt(System.getProperty("load.max-en-vuelo", "2000")),
+            duracion(System.getProperty("load.timeout", "10s")),
+            duracion(System.getProperty("load.adjuntos.latencia", "0ms")),
+            Double.parseDouble(System.getProperty("load.adjuntos.latencia-sigma", "0")),
+            List.of(System.getProperty("load.jvm-args", "-Xmx512m").trim().split("\\s+")),
+            Path.of(System.getProperty("load.resultado", "target/load-test-result.json")),
+            Path.of(System.getProperty("load.logs", "target/load-test-logs")));
+    }
+
+    /**
+     * Duración con el formato de las propiedades de los servicios ({@code 500ms}, {@code 30s}, {@code 2m}, {@code 1h})
+     * o ISO-8601 ({@code PT30S}).
+     */
+    static Duration duracion(String valor) {
+        Matcher matcher = DURACION.matcher(valor.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            return Duration.parse(valor);
+        }
+        long cantidad = Long.parseLong(matcher.group(1));
+        return switch (matcher.group(2)) {
+            case "ms" -> Duration.ofMillis(cantidad);
+            case "s" -> Duration.ofSeconds(cantidad);
+            case "m" -> Duration.ofMinutes(cantidad);
+            default -> Duration.ofHours(cantidad);
+        };
+    }
+
+    public boolean entornoExterno() {
+        return gatewayUrl != null && !gatewayUrl.isBlank();
+    }
+
+    public boolean latenciaEnAdjuntos() {
+        return !latenciaAdjuntos.isZero();
+    }
+}
@@ -0,0 +1,71 @@
+package com.eureka.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Proporción de cada operación en la carga, a partir de pesos como {@code listado=25,detalle=50,alta=10}. Las
+ * operaciones que no aparecen no se lanzan.
+ */
+public final class MezclaOperaciones {
+    private final Map<Operacion, Integer> pesos;
+    private final Operacion[] operaciones;
+    private final int[] acumulados;
+    private final int total;
+
+    private MezclaOperaciones(Map<Operacion, Integer> pesos) {
+        this.pesos = pesos;
+        this.operaciones = pesos.keySet().toArray(Operacion[]::new);
+        this.acumulados = new int[operaciones.length];
+        int suma = 0;
+        for (int i = 0; i < operaciones.length; i++) {
+            suma += pesos.get(operaciones[i]);
+            acumulados[i] = suma;
+        }
+        this.total = suma;
+    }
+
+    public static MezclaOperaciones parse(String mezcla) {
+        Map<Operacion, Integer> pesos = new EnumMap<>(Operacion.class);
+        for (String parte : mezcla.split(",")) {
+            String[] claveValor = parte.trim().split("=");
+            if (claveValor.length != 2) {
+                throw new IllegalArgumentException("Formato de la mezcla: operacion=peso,... (" + mezcla + ")");
+            }
+            int peso = Integer.parseInt(claveValor[1].trim());
+            if (peso < 0) {
+                throw new IllegalArgumentException("El peso de " + claveValor[0] + " no puede ser negativo");
+            }
+            if (peso > 0) {
+                pesos.put(Operacion.fromNombre(claveValor[0].trim()), peso);
+            }
+        }
+        if (pesos.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla debe tener al menos una operación con peso mayor que 0");
+        }
+        return new MezclaOperaciones(pesos);
+    }
+
+    public Operacion siguiente() {
+        int valor = ThreadLocalRandom.current().nextInt(total);
+        for (int i = 0; i < acumulados.length; i++) {
+            if (valor < acumulados[i]) {
+                return operaciones[i];
+            }
+        }
+        return operaciones[operaciones.length - 1];
+    }
+
+    public Map<Operacion, Integer> pesos() {
+        return pesos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder();
+        pesos.forEach((operacion, peso) -> texto.append(texto.isEmpty() ? "" : ",")
+            .append(operacion.nombre()).append('=').append(peso));
+        return texto.toString();
+    }
+}
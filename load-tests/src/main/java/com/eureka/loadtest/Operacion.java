@@ -0,0 +1,37 @@
+package com.eureka.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Operaciones de la carga, con el nombre con el que se indican en {@code load.mezcla}.
+ */
+public enum Operacion {
+    /** Primera página del listado ({@code GET /api/v1/candidatos/pagina?size=20}). */
+    LISTADO("listado"),
+    /** Candidato con sus adjuntos ({@code GET /api/v1/candidatos/{id}/adjuntos}). */
+    DETALLE("detalle"),
+    /** Alta de un candidato ({@code POST /api/v1/candidatos}). */
+    ALTA("alta"),
+    /** Modificación de un candidato ({@code PUT /api/v1/candidatos/{id}}). */
+    MODIFICACION("modificacion"),
+    /** Baja de un candidato ({@code DELETE /api/v1/candidatos/{id}}), primero de los dados de alta en la prueba. */
+    BAJA("baja");
+
+    private final String nombre;
+
+    Operacion(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String nombre() {
+        return nombre;
+    }
+
+    public static Operacion fromNombre(String nombre) {
+        return Arrays.stream(values())
+            .filter(operacion -> operacion.nombre.equals(nombre))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Operación desconocida: " + nombre
+                + ". Operaciones: listado, detalle, alta, modificacion, baja"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.eureka.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Un servicio arrancado desde su JAR en una JVM propia, como en producción, con la salida en
+ * {@code <logs>/<nombre>.log}. Cada servicio tiene sus propias dependencias (el gateway es WebFlux y el resto
+ * Servlet), así que no pueden compartir JVM.
+ */
+public final class ProcesoServicio implements AutoCloseable {
+    private static final Duration ARRANQUE_MAXIMO = Duration.ofMinutes(3);
+
+    private final String nombre;
+    private final int puerto;
+    private final Process proceso;
+    private final Path log;
+
+    private ProcesoServicio(String nombre, int puerto, Process proceso, Path log) {
+        this.nombre = nombre;
+        this.puerto = puerto;
+        this.proceso = proceso;
+        this.log = log;
+    }
+
+    /**
+     * Arranca el JAR de {@code <proyecto>/<modulo>/target} y espera a que {@code /actuator/health} responda UP.
+     */
+    public static ProcesoServicio arrancar(LoadTestConfig config, String modulo, int puerto, List<String> argumentos)
+            throws IOException, InterruptedException {
+        Path jar = buscarJar(config.proyecto().resolve(modulo).resolve("target"), modulo);
+        Files.createDirectories(config.logs());
+        Path log = config.logs().resolve(modulo + ".log");
+
+        List<String> comando = new ArrayList<>();
+        comando.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        comando.addAll(config.jvmArgs());
+        comando.add("-jar");
+        comando.add(jar.toString());
+        comando.add("--server.port=" + puerto);
+        comando.addAll(argumentos);
+
+        Process proceso = new ProcessBuilder(comando)
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        ProcesoServicio servicio = new ProcesoServicio(modulo, puerto, proceso, log);
+        try {
+            servicio.esperarArranque();
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            servicio.close();
+            throw e;
+        }
+        return servicio;
+    }
+
+    private static Path buscarJar(Path target, String modulo) throws IOException {
+        if (Files.isDirectory(target)) {
+            try (Stream<Path> ficheros = Files.list(target)) {
+                var jar = ficheros
+                    .filter(fichero -> fichero.getFileName().toString().endsWith(".jar"))
+                    .filter(fichero -> !fichero.getFileName().toString().endsWith("-plain.jar"))
+                    .findFirst();
+                if (jar.isPresent()) {
+                    return jar.get();
+                }
+            }
+        }
+        throw new IllegalStateException("No se encuentra el JAR de " + modulo + " en " + target
+            + ". Generarlo con: cd " + modulo + " && ./mvnw -DskipTests package");
+    }
+
+    private void esperarArranque() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + "/actuator/health"))
+            .timeout(Duration.ofSeconds(2))
+            .build();
+        Instant limite = Instant.now().plus(ARRANQUE_MAXIMO);
+        while (Instant.now().isBefore(limite)) {
+            if (!proceso.isAlive()) {
+                throw new IllegalStateException(nombre + " ha terminado con código " + proceso.exitValue()
+                    + " al arrancar. Salida en " + log);
+            }
+            try {
+                HttpResponse<String> response = client.send(health, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Todavía no escucha en el puerto
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException(nombre + " no ha arrancado en " + ARRANQUE_MAXIMO.toSeconds()
+            + "s. Salida en " + log);
+    }
+
+    public String nombre() {
+        return nombre;
+    }
+
+    /**
+     * Detiene el servicio con SIGTERM (parada ordenada de Spring Boot) y, si no termina en 30s, lo mata.
+     */
+    @Override
+    public void close() {
+        proceso.destroy();
+        try {
+            if (!proceso.waitFor(30, TimeUnit.SECONDS)) {
+                proceso.destroyForcibly().waitFor(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            proceso.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
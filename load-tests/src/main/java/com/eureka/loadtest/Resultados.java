@@ -0,0 +1,192 @@
+package com.eureka.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Latencias y respuestas de las peticiones del periodo de medición, por operación. La latencia se mide desde el
+ * instante en que la petición debía lanzarse según las peticiones por segundo, no desde que se lanzó, para que un
+ * generador retrasado por respuestas lentas no oculte esa lentitud.
+ */
+public final class Resultados {
+    /** Estado de las peticiones no enviadas por superar {@code load.max-en-vuelo}. */
+    public static final String DESCARTADA = "descartada";
+
+    private final Map<Operacion, ResultadosOperacion> porOperacion = new EnumMap<>(Operacion.class);
+
+    public Resultados(Iterable<Operacion> operaciones) {
+        operaciones.forEach(operacion -> porOperacion.put(operacion, new ResultadosOperacion()));
+    }
+
+    /**
+     * @param estado código HTTP de la respuesta, o tipo de error si no hubo respuesta
+     */
+    public void registrar(Operacion operacion, long latenciaNanos, String estado, boolean error) {
+        ResultadosOperacion resultados = porOperacion.get(operacion);
+        resultados.latencias.recordValue(Math.max(1, latenciaNanos / 1000));
+        resultados.estado(estado, error);
+    }
+
+    public void descartada(Operacion operacion) {
+        porOperacion.get(operacion).estado(DESCARTADA, true);
+    }
+
+    /**
+     * Baja no lanzada porque ya no quedan candidatos que se puedan borrar sin afectar al resto de operaciones.
+     */
+    public void omitida(Operacion operacion) {
+        porOperacion.get(operacion).omitidas.increment();
+    }
+
+    private static final class ResultadosOperacion {
+        private final ConcurrentHistogram latencias = new ConcurrentHistogram(3);
+        private final Map<String, LongAdder> estados = new ConcurrentHashMap<>();
+        private final LongAdder errores = new LongAdder();
+        private final LongAdder omitidas = new LongAdder();
+
+        void estado(String estado, boolean error) {
+            estados.computeIfAbsent(estado, clave -> new LongAdder()).increment();
+            if (error) {
+                errores.increment();
+            }
+        }
+
+        long peticiones() {
+            return estados.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+
+    /**
+     * Resumen de una operación, o del total con {@code estados} vacío.
+     */
+    private record Resumen(String nombre, long peticiones, long errores, Histogram latencias,
+            Map<String, Long> estados, long omitidas) {
+    }
+
+    private List<Resumen> resumenes() {
+        List<Resumen> resumenes = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        long peticionesTotal = 0;
+        long erroresTotal = 0;
+        for (Map.Entry<Operacion, ResultadosOperacion> entrada : porOperacion.entrySet()) {
+            ResultadosOperacion resultados = entrada.getValue();
+            Histogram latencias = resultados.latencias.copy();
+            Map<String, Long> estados = new TreeMap<>();
+            resultados.estados.forEach((estado, cantidad) -> estados.put(estado, cantidad.sum()));
+            Resumen resumen = new Resumen(entrada.getKey().nombre(), resultados.peticiones(),
+                resultados.errores.sum(), latencias, estados, resultados.omitidas.sum());
+            resumenes.add(resumen);
+            total.add(latencias);
+            peticionesTotal += resumen.peticiones();
+            erroresTotal += resumen.errores();
+        }
+        resumenes.add(new Resumen("total", peticionesTotal, erroresTotal, total, Map.of(), 0));
+        return resumenes;
+    }
+
+    /**
+     * Tabla con el throughput, la tasa de error y los percentiles de latencia de cada operación y del total.
+     */
+    public void imprimir(PrintStream salida, Duration duracion) {
+        List<Resumen> resumenes = resumenes();
+        salida.printf("%n%-14s %10s %9s %8s %9s %9s %9s %9s %9s%n",
+            "Operación", "Peticiones", "Req/s", "Errores", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "máx ms");
+        for (Resumen resumen : resumenes) {
+            Histogram latencias = resumen.latencias();
+            salida.printf("%-14s %10d %9.1f %7.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                resumen.nombre(), resumen.peticiones(), resumen.peticiones() / segundos(duracion),
+                tasa(resumen.errores(), resumen.peticiones()),
+                ms(latencias.getValueAtPercentile(50)), ms(latencias.getValueAtPercentile(90)),
+                ms(latencias.getValueAtPercentile(99)), ms(latencias.getValueAtPercentile(99.9)),
+                ms(latencias.getMaxValue()));
+        }
+
+        salida.printf("%nRespuestas por operación:%n");
+        for (Resumen resumen : resumenes.subList(0, resumenes.size() - 1)) {
+            salida.printf("  %-12s %s%s%n", resumen.nombre(), resumen.estados(),
+                resumen.omitidas() > 0 ? " (" + resumen.omitidas() + " sin candidatos para borrar)" : "");
+        }
+    }
+
+    /**
+     * Guarda el resultado en JSON junto con la configuración de la prueba, para comparar ejecuciones.
+     */
+    public void guardar(Path fichero, LoadTestConfig config) throws IOException {
+        Map<String, Object> configuracion = new LinkedHashMap<>();
+        configuracion.put("rps", config.rps());
+        configuracion.put("duracionSegundos", config.duracion().toSeconds());
+        configuracion.put("calentamientoSegundos", config.calentamiento().toSeconds());
+        configuracion.put("mezcla", config.mezcla().toString());
+        configuracion.put("candidatos", config.candidatos());
+        configuracion.put("adjuntosPorCandidato", config.adjuntosPorCandidato());
+        configuracion.put("latenciaAdjuntosMs", config.latenciaAdjuntos().toMillis());
+        configuracion.put("sigmaLatenciaAdjuntos", config.sigmaLatencia());
+
+        List<Resumen> resumenes = resumenes();
+        Map<String, Object> operaciones = new LinkedHashMap<>();
+        for (Resumen resumen : resumenes.subList(0, resumenes.size() - 1)) {
+            Map<String, Object> operacion = toJson(resumen, config.duracion());
+            operacion.put("respuestas", resumen.estados());
+            operacion.put("omitidas", resumen.omitidas());
+            operaciones.put(resumen.nombre(), operacion);
+        }
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("configuracion", configuracion);
+        resultado.put("total", toJson(resumenes.getLast(), config.duracion()));
+        resultado.put("operaciones", operaciones);
+
+        if (fichero.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(fichero.toAbsolutePath().getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(fichero.toFile(), resultado);
+    }
+
+    private static Map<String, Object> toJson(Resumen resumen, Duration duracion) {
+        Histogram latencias = resumen.latencias();
+        Map<String, Object> latenciaMs = new LinkedHashMap<>();
+        latenciaMs.put("p50", ms(latencias.getValueAtPercentile(50)));
+        latenciaMs.put("p90", ms(latencias.getValueAtPercentile(90)));
+        latenciaMs.put("p99", ms(latencias.getValueAtPercentile(99)));
+        latenciaMs.put("p999", ms(latencias.getValueAtPercentile(99.9)));
+        latenciaMs.put("max", ms(latencias.getMaxValue()));
+        latenciaMs.put("media", latencias.getTotalCount() == 0 ? 0 : latencias.getMean() / 1000.0);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("peticiones", resumen.peticiones());
+        json.put("rps", resumen.peticiones() / segundos(duracion));
+        json.put("errores", resumen.errores());
+        json.put("tasaError", tasa(resumen.errores(), resumen.peticiones()) / 100);
+        json.put("latenciaMs", latenciaMs);
+        return json;
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double segundos(Duration duracion) {
+        return Math.max(1, duracion.toMillis()) / 1000.0;
+    }
+
+    private static double tasa(long errores, long peticiones) {
+        return peticiones == 0 ? 0 : 100.0 * errores / peticiones;
+    }
+}
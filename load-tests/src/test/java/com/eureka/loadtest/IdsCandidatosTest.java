@@ -0,0 +1,108 @@
+package com.eureka.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdsCandidatosTest {
+
+    /** 100 candidatos cargados: el margen es 10, así que se pueden borrar 80. */
+    private static IdsCandidatos cienCargados() {
+        return new IdsCandidatos(IntStream.rangeClosed(1, 100).toArray());
+    }
+
+    /**
+     * Test: Las bajas se llevan primero los candidatos dados de alta en la prueba, en orden de alta
+     */
+    @Test
+    @DisplayName("paraBorrar - Primero los creados en la prueba")
+    void testParaBorrar_CreadosPrimero() {
+        IdsCandidatos ids = cienCargados();
+        ids.creado(501);
+        ids.creado(502);
+
+        assertThat(ids.paraBorrar()).hasValue(501);
+        assertThat(ids.paraBorrar()).hasValue(502);
+        assertThat(ids.paraBorrar()).hasValue(100);
+    }
+
+    /**
+     * Test: Después se borran los cargados desde el final, hasta dejar el doble del margen de consultas
+     */
+    @Test
+    @DisplayName("paraBorrar - Los cargados desde el final, sin tocar los que quedan para consultas")
+    void testParaBorrar_CargadosDesdeElFinal() {
+        IdsCandidatos ids = cienCargados();
+        List<Integer> borrados = new ArrayList<>();
+
+        for (OptionalInt id = ids.paraBorrar(); id.isPresent(); id = ids.paraBorrar()) {
+            borrados.add(id.getAsInt());
+        }
+
+        assertThat(borrados).containsExactlyElementsOf(IntStream.iterate(100, id -> id - 1).limit(80).boxed().toList());
+        assertThat(ids.paraBorrar()).isEmpty();
+        ids.creado(501);
+        assertThat(ids.paraBorrar()).hasValue(501);
+    }
+
+    /**
+     * Test: Las consultas nunca eligen un candidato borrado ni uno que se pueda estar borrando
+     */
+    @Test
+    @DisplayName("aleatorio - Solo candidatos que no se van a borrar")
+    void testAleatorio_SinBorrados() {
+        IdsCandidatos ids = cienCargados();
+        for (int i = 0; i < 30; i++) {
+            ids.paraBorrar();
+        }
+
+        // Quedan 70 sin borrar y los 10 últimos son el margen de una baja en curso
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(ids.aleatorio()).isBetween(1, 60);
+        }
+    }
+
+    /**
+     * Test: Con bajas concurrentes cada candidato se entrega una sola vez
+     */
+    @Test
+    @DisplayName("paraBorrar - Sin repetidos con varios hilos")
+    void testParaBorrar_Concurrente() throws Exception {
+        IdsCandidatos ids = new IdsCandidatos(IntStream.rangeClosed(1, 10_000).toArray());
+        IntStream.rangeClosed(20_001, 21_000).forEach(ids::creado);
+        Set<Integer> borrados = ConcurrentHashMap.newKeySet();
+        List<Future<Integer>> tareas = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int hilo = 0; hilo < 8; hilo++) {
+                tareas.add(executor.submit(() -> {
+                    int repetidos = 0;
+                    for (OptionalInt id = ids.paraBorrar(); id.isPresent(); id = ids.paraBorrar()) {
+                        if (!borrados.add(id.getAsInt())) {
+                            repetidos++;
+                        }
+                    }
+                    return repetidos;
+                }));
+            }
+            for (Future<Integer> tarea : tareas) {
+                assertThat(tarea.get()).isZero();
+            }
+        }
+
+        // 1.000 creados y los cargados hasta dejar 2.000 (margen de 1.000)
+        assertThat(borrados).hasSize(1_000 + 8_000);
+        assertThat(borrados).doesNotContainAnyElementsOf(IntStream.rangeClosed(1, 2_000).boxed().toList());
+    }
+}
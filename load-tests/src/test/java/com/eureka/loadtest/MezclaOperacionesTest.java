@@ -0,0 +1,84 @@
+package com.eureka.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MezclaOperacionesTest {
+    private static final int SORTEOS = 200_000;
+
+    /**
+     * Test: Los pesos se leen por nombre de operación y las de peso 0 no forman parte de la mezcla
+     */
+    @Test
+    @DisplayName("parse - Lee los pesos y descarta las operaciones con peso 0")
+    void testParse_Pesos() {
+        MezclaOperaciones mezcla = MezclaOperaciones.parse(" listado=25, detalle=50,alta=10,baja=0 ");
+
+        assertThat(mezcla.pesos()).containsExactlyInAnyOrderEntriesOf(Map.of(
+            Operacion.LISTADO, 25,
+            Operacion.DETALLE, 50,
+            Operacion.ALTA, 10));
+        assertThat(mezcla).hasToString("listado=25,detalle=50,alta=10");
+    }
+
+    /**
+     * Test: Las mezclas mal escritas se rechazan en lugar de lanzar una carga distinta de la pedida
+     */
+    @Test
+    @DisplayName("parse - Rechaza formato, operación, pesos negativos y mezclas vacías")
+    void testParse_Invalida() {
+        assertThatThrownBy(() -> MezclaOperaciones.parse("listado:25"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("operacion=peso");
+        assertThatThrownBy(() -> MezclaOperaciones.parse("listado=25,busqueda=10"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("busqueda");
+        assertThatThrownBy(() -> MezclaOperaciones.parse("listado=25,alta=-1"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("negativo");
+        assertThatThrownBy(() -> MezclaOperaciones.parse("listado=0,detalle=0"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("al menos una operación");
+        assertThatThrownBy(() -> MezclaOperaciones.parse("listado=mucho"))
+            .isInstanceOf(NumberFormatException.class);
+    }
+
+    /**
+     * Test: Cada operación sale en proporción a su peso y las que no están en la mezcla no salen nunca
+     */
+    @Test
+    @DisplayName("siguiente - Reparte las operaciones según sus pesos")
+    void testSiguiente_Proporciones() {
+        MezclaOperaciones mezcla = MezclaOperaciones.parse("listado=25,detalle=50,alta=10,modificacion=10,baja=5");
+        Map<Operacion, Integer> veces = new EnumMap<>(Operacion.class);
+
+        for (int i = 0; i < SORTEOS; i++) {
+            veces.merge(mezcla.siguiente(), 1, Integer::sum);
+        }
+
+        mezcla.pesos().forEach((operacion, peso) ->
+            assertThat(veces.getOrDefault(operacion, 0) / (double) SORTEOS)
+                .as(operacion.nombre())
+                .isCloseTo(peso / 100.0, within(0.01)));
+    }
+
+    /**
+     * Test: Con una sola operación en la mezcla siempre sale esa
+     */
+    @Test
+    @DisplayName("siguiente - Con una sola operación siempre la devuelve")
+    void testSiguiente_UnaOperacion() {
+        MezclaOperaciones mezcla = MezclaOperaciones.parse("detalle=1,listado=0");
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(mezcla.siguiente()).isEqualTo(Operacion.DETALLE);
+        }
+    }
+}